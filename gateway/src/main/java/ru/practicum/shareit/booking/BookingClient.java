@@ -1,16 +1,20 @@
 package ru.practicum.shareit.booking;
 
+import java.util.HashMap;
 import java.util.Map;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResourceFamily;
 
 @Service
+@Profile("!reactive")
 public class BookingClient extends BaseClient {
 
     private static final String API_PREFIX = "/bookings";
@@ -18,8 +22,7 @@ public class BookingClient extends BaseClient {
     public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder rest) {
         super(rest
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+                .build(), ResourceFamily.BOOKINGS);
     }
 
     public ResponseEntity<Object> setApproved(Long ownerId, Long bookingId, boolean approved) {
@@ -34,21 +37,28 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userID);
     }
 
-    public ResponseEntity<Object> getAllBookings(Long userID, String state, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userID, parameters);
+    public ResponseEntity<Object> getAllBookings(Long userID, String state, Long from, Long size, String cursor) {
+        return getPage("", userID, state, from, size, cursor);
     }
 
-    public ResponseEntity<Object> getAllOwnerBookings(Long userID, String state, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userID, parameters);
+    public ResponseEntity<Object> getAllOwnerBookings(Long userID, String state, Long from, Long size, String cursor) {
+        return getPage("/owner", userID, state, from, size, cursor);
+    }
+
+    public void exportOwnerBookings(Long userID, String format, HttpServletResponse response) {
+        getStream("/owner/export?format={format}", userID, Map.of("format", format), response);
+    }
+
+    private ResponseEntity<Object> getPage(String path, Long userID, String state, Long from, Long size,
+            String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get(path + "?state={state}&from={from}&size={size}", userID, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userID, parameters);
     }
 }
@@ -2,9 +2,11 @@ package ru.practicum.shareit.booking;
 
 import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,10 +20,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.booking.enums.BookingStatus;
-import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.RequestValidator;
 
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(path = "/bookings")
 @Slf4j
 @RequiredArgsConstructor
@@ -33,14 +36,14 @@ public class BookingController {
     public ResponseEntity<Object> add(@RequestHeader(CUSTOM_USER_ID_HEADER) Long bookerId,
             @RequestBody @Valid BookingInputDto bookingInputDto) {
         bookingInputDto.setStatus(BookingStatus.WAITING);
-        if (bookingInputDto.getEnd().isBefore(bookingInputDto.getStart())
-                || bookingInputDto.getStart().equals(bookingInputDto.getEnd())) {
+        if (!RequestValidator.isBookingPeriodValid(bookingInputDto)) {
             log.warn("Окончание бронирования не может быть раньше начала.");
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Окончание бронирования не может быть раньше начала.");
         }
         ResponseEntity<Object> booking = bookingClient.createBooking(bookingInputDto, bookerId);
-        log.info(booking + " сохранен в базу данных");
+        log.info("Создание бронирования: bookerId={}, itemId={}, status={}", bookerId, bookingInputDto.getItemId(),
+                booking.getStatusCodeValue());
         return booking;
     }
 
@@ -48,7 +51,7 @@ public class BookingController {
     public ResponseEntity<Object> setApprove(@RequestHeader(CUSTOM_USER_ID_HEADER) Long ownerId,
             @PathVariable Long bookingId,
             @RequestParam boolean approved) {
-        log.info("Booking с id " + bookingId + " подтверждён");
+        log.info("Решение по бронированию: bookingId={}, ownerId={}, approved={}", bookingId, ownerId, approved);
         return bookingClient.setApproved(ownerId, bookingId, approved);
     }
 
@@ -56,7 +59,8 @@ public class BookingController {
     public ResponseEntity<Object> getBooking(
             @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID, @PathVariable Long bookingId) {
         ResponseEntity<Object> booking = bookingClient.getBooking(userID, bookingId);
-        log.info(booking + " передано пользователю");
+        log.info("Бронирование передано пользователю: bookingId={}, userId={}, status={}", bookingId, userID,
+                booking.getStatusCodeValue());
         return booking;
     }
 
@@ -64,11 +68,13 @@ public class BookingController {
     public ResponseEntity<Object> getAllUserBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
             @RequestParam(required = false, defaultValue = "ALL") String state,
             @RequestParam(required = false, defaultValue = "0") Long from,
-            @RequestParam(required = false, defaultValue = "10") Long size) {
-        isPageableValidation(from, size);
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validatePage(from, size);
 
-        ResponseEntity<Object> bookings = bookingClient.getAllBookings(userID, state, from, size);
-        log.info(bookings + " переданы пользователю");
+        ResponseEntity<Object> bookings = bookingClient.getAllBookings(userID, state, from, size, cursor);
+        log.info("Бронирования переданы пользователю: userId={}, state={}, status={}", userID, state,
+                bookings.getStatusCodeValue());
         return bookings;
     }
 
@@ -76,20 +82,20 @@ public class BookingController {
     public ResponseEntity<Object> getAllOwnersBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
             @RequestParam(required = false, defaultValue = "ALL") String state,
             @RequestParam(required = false, defaultValue = "0") Long from,
-            @RequestParam(required = false, defaultValue = "10") Long size) {
-        isPageableValidation(from, size);
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validatePage(from, size);
 
-        ResponseEntity<Object> bookings = bookingClient.getAllOwnerBookings(userID, state, from, size);
-        log.info(bookings + " переданы владельцу вещи");
+        ResponseEntity<Object> bookings = bookingClient.getAllOwnerBookings(userID, state, from, size, cursor);
+        log.info("Бронирования переданы владельцу вещи: ownerId={}, state={}, status={}", userID, state,
+                bookings.getStatusCodeValue());
         return bookings;
     }
 
-    private void isPageableValidation(Long from, Long size) {
-        if (from < 0) {
-            throw new BadRequestException("Индекс первого элемента не может быть меньше нуля");
-        }
-        if (size < 0 || size == 0) {
-            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
-        }
+    @GetMapping("/owner/export")
+    public void exportOwnersBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            HttpServletResponse response) {
+        bookingClient.exportOwnerBookings(userID, format, response);
     }
 }
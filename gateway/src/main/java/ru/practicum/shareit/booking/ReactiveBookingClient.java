@@ -0,0 +1,67 @@
+package ru.practicum.shareit.booking;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+@Service
+@Profile("reactive")
+public class ReactiveBookingClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder webClient) {
+        super(webClient
+                .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .build());
+    }
+
+    public Mono<ResponseEntity<Object>> setApproved(Long ownerId, Long bookingId, boolean approved) {
+        return patch("/" + bookingId + "?approved={approved}", ownerId, Map.of("approved", approved), null);
+    }
+
+    public Mono<ResponseEntity<Object>> createBooking(BookingInputDto bookingInputDto, Long bookerId) {
+        return post("", bookerId, bookingInputDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(Long userID, Long bookingId) {
+        return get("/" + bookingId, userID);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllBookings(Long userID, String state, Long from, Long size,
+            String cursor) {
+        return getPage("", userID, state, from, size, cursor);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllOwnerBookings(Long userID, String state, Long from, Long size,
+            String cursor) {
+        return getPage("/owner", userID, state, from, size, cursor);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportOwnerBookings(Long userID, String format) {
+        return getStream("/owner/export?format={format}", userID, Map.of("format", format));
+    }
+
+    private Mono<ResponseEntity<Object>> getPage(String path, Long userID, String state, Long from, Long size,
+            String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get(path + "?state={state}&from={from}&size={size}", userID, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userID, parameters);
+    }
+}
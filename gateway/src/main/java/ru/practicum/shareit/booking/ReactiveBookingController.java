@@ -0,0 +1,87 @@
+package ru.practicum.shareit.booking;
+
+import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
+
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.validation.RequestValidator;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "/bookings")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> add(@RequestHeader(CUSTOM_USER_ID_HEADER) Long bookerId,
+            @RequestBody @Valid BookingInputDto bookingInputDto) {
+        bookingInputDto.setStatus(BookingStatus.WAITING);
+        if (!RequestValidator.isBookingPeriodValid(bookingInputDto)) {
+            log.warn("Окончание бронирования не может быть раньше начала.");
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Окончание бронирования не может быть раньше начала."));
+        }
+        return bookingClient.createBooking(bookingInputDto, bookerId);
+    }
+
+    @PatchMapping("{bookingId}")
+    public Mono<ResponseEntity<Object>> setApprove(@RequestHeader(CUSTOM_USER_ID_HEADER) Long ownerId,
+            @PathVariable Long bookingId,
+            @RequestParam boolean approved) {
+        return bookingClient.setApproved(ownerId, bookingId, approved);
+    }
+
+    @GetMapping("{bookingId}")
+    public Mono<ResponseEntity<Object>> getBooking(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @PathVariable Long bookingId) {
+        return bookingClient.getBooking(userID, bookingId);
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<Object>> getAllUserBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validatePage(from, size);
+        return bookingClient.getAllBookings(userID, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getAllOwnersBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validatePage(from, size);
+        return bookingClient.getAllOwnerBookings(userID, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportOwnersBookings(
+            @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "csv") String format) {
+        return bookingClient.exportOwnerBookings(userID, format);
+    }
+}
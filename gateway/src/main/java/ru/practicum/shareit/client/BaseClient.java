@@ -1,22 +1,55 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 public class BaseClient {
     protected final RestTemplate rest;
+    private final ResourceFamily family;
+    private final Map<String, CompletableFuture<ResponseEntity<Object>>> inFlightGets = new ConcurrentHashMap<>();
+    private final Counter upstreamGets;
+    private final Counter coalescedGets;
+    private GatewayResponseCache responseCache;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, null);
+    }
+
+    public BaseClient(RestTemplate rest, @Nullable ResourceFamily family) {
         this.rest = rest;
+        this.family = family;
+        this.upstreamGets = getCounter("upstream");
+        this.coalescedGets = getCounter("coalesced");
+    }
+
+    @Autowired(required = false)
+    public void setResponseCache(GatewayResponseCache responseCache) {
+        this.responseCache = responseCache;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -27,8 +60,70 @@ public class BaseClient {
         return get(path, userId, null);
     }
 
+    /**
+     * Успешные ответы берутся из кэша, если клиент относится к группе ресурсов и кэш включён.
+     * If-None-Match входящего запроса передаётся серверу; если он совпадает с ETag ответа в кэше,
+     * шлюз сам отвечает 304 без тела.
+     * Одновременные одинаковые GET-запросы (адрес, пользователь и If-None-Match совпадают) объединяются:
+     * к серверу уходит один запрос, его ответ или исключение получают все ожидающие.
+     * Остальные методы не объединяются и сбрасывают кэш затронутых групп.
+     */
     protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        URI uri = parameters != null ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+        String key = uri + "|" + userId;
+        String ifNoneMatch = currentIfNoneMatch();
+        if (responseCache != null && family != null) {
+            return responseCache.get(family, key, ifNoneMatch,
+                    () -> coalesce(key, path, userId, parameters, ifNoneMatch));
+        }
+        return coalesce(key, path, userId, parameters, ifNoneMatch);
+    }
+
+    private ResponseEntity<Object> coalesce(String key, String path, Long userId,
+            @Nullable Map<String, Object> parameters, @Nullable String ifNoneMatch) {
+        String requestKey = key + "|" + ifNoneMatch;
+        CompletableFuture<ResponseEntity<Object>> request = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> inFlight = inFlightGets.putIfAbsent(requestKey, request);
+        if (inFlight != null) {
+            coalescedGets.increment();
+            return await(inFlight);
+        }
+        upstreamGets.increment();
+        try {
+            ResponseEntity<Object> response = exchange(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch);
+            request.complete(response);
+            return response;
+        } catch (Throwable e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightGets.remove(requestKey, request);
+        }
+    }
+
+    /**
+     * Ответ сервера копируется в ответ шлюза по мере получения, без сборки в памяти.
+     * Такие запросы не кэшируются и не объединяются.
+     */
+    protected void getStream(String path, long userId, Map<String, Object> parameters, HttpServletResponse target) {
+        try {
+            rest.execute(path, HttpMethod.GET, request -> {
+                request.getHeaders().addAll(defaultHeaders(userId));
+                request.getHeaders().setAccept(List.of(MediaType.ALL));
+            }, response -> {
+                GatewayResponses.passthroughHeaders(response.getStatusCode(), response.getHeaders(), target);
+                StreamUtils.copy(response.getBody(), target.getOutputStream());
+                return null;
+            }, parameters);
+        } catch (HttpStatusCodeException e) {
+            GatewayResponses.passthroughHeaders(e.getStatusCode(), e.getResponseHeaders(), target);
+            try {
+                target.getOutputStream().write(e.getResponseBodyAsByteArray());
+            } catch (IOException writeError) {
+                throw new UncheckedIOException(writeError);
+            }
+        }
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -43,6 +138,31 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
+    /**
+     * Тело передаётся серверу потоком по мере чтения, без сборки в памяти шлюза.
+     */
+    protected ResponseEntity<Object> postStream(String path, long userId, MediaType contentType, InputStream body) {
+        try {
+            return rest.execute(path, HttpMethod.POST, request -> {
+                request.getHeaders().addAll(defaultHeaders(userId));
+                request.getHeaders().setContentType(contentType);
+                if (request instanceof StreamingHttpOutputMessage) {
+                    ((StreamingHttpOutputMessage) request).setBody(body::transferTo);
+                } else {
+                    body.transferTo(request.getBody());
+                }
+            }, response -> GatewayResponses.passthrough(response.getStatusCode(), response.getHeaders(),
+                    StreamUtils.copyToByteArray(response.getBody())));
+        } catch (HttpStatusCodeException e) {
+            return GatewayResponses.passthrough(e.getStatusCode(), e.getResponseHeaders(),
+                    e.getResponseBodyAsByteArray());
+        } finally {
+            if (responseCache != null && family != null) {
+                responseCache.invalidateAfterWrite(family);
+            }
+        }
+    }
+
     protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
@@ -80,19 +200,67 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        if (responseCache == null || family == null) {
+            return exchange(method, path, userId, parameters, body, null);
+        }
+        try {
+            return exchange(method, path, userId, parameters, body, null);
+        } finally {
+            responseCache.invalidateAfterWrite(family);
+        }
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String ifNoneMatch) {
+        HttpHeaders headers = defaultHeaders(userId);
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return GatewayResponses.passthrough(e.getStatusCode(), e.getResponseHeaders(),
+                    e.getResponseBodyAsByteArray());
+        }
+        return GatewayResponses.passthrough(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
+    }
+
+    private static ResponseEntity<Object> await(CompletableFuture<ResponseEntity<Object>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Nullable
+    private static String currentIfNoneMatch() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getRequest().getHeader(HttpHeaders.IF_NONE_MATCH);
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return null;
+    }
+
+    private Counter getCounter(String result) {
+        return Counter.builder("gateway.client.get.requests")
+                .description("GET-запросы шлюза: отправленные серверу и объединённые с уже выполняющимися")
+                .tag("client", getClass().getSimpleName())
+                .tag("result", result)
+                .register(Metrics.globalRegistry);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -104,18 +272,4 @@ public class BaseClient {
         }
         return headers;
     }
-
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
-
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
-        }
-
-        return responseBuilder.build();
-    }
 }
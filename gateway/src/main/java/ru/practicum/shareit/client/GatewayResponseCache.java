@@ -0,0 +1,98 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Кэш успешных ответов на GET-запросы шлюза, раздельный для каждого пользователя.
+ * Ключ включает поколение группы ресурсов: изменяющий запрос через шлюз увеличивает поколения
+ * затронутых групп, и прежние записи больше не находятся, а затем вытесняются.
+ * TTL ограничивает устаревание из-за изменений, прошедших мимо шлюза, и из-за течения времени
+ * (текущие и прошедшие бронирования).
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "shareit-gateway.response-cache", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class GatewayResponseCache {
+
+    private final Cache<String, ResponseEntity<Object>> responses;
+    private final Map<ResourceFamily, AtomicLong> generations = new EnumMap<>(ResourceFamily.class);
+
+    public GatewayResponseCache(@Value("${shareit-gateway.response-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${shareit-gateway.response-cache.ttl:10s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, ResponseEntity<Object> response) -> key.length() + bodyLength(response))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        for (ResourceFamily family : ResourceFamily.values()) {
+            generations.put(family, new AtomicLong());
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "gatewayResponses");
+    }
+
+    /**
+     * Если ответ есть в кэше и его ETag совпадает с If-None-Match клиента, возвращается 304 без тела.
+     */
+    public ResponseEntity<Object> get(ResourceFamily family, String request, @Nullable String ifNoneMatch,
+            Supplier<ResponseEntity<Object>> loader) {
+        String key = family + ":" + generations.get(family).get() + "|" + request;
+        ResponseEntity<Object> cached = responses.getIfPresent(key);
+        if (cached != null) {
+            String etag = cached.getHeaders().getETag();
+            if (etag != null && ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return cached;
+        }
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode().is2xxSuccessful()) {
+            responses.put(key, response);
+        }
+        return response;
+    }
+
+    public void invalidateAfterWrite(ResourceFamily family) {
+        for (ResourceFamily invalidated : family.invalidatedByWrite()) {
+            generations.get(invalidated).incrementAndGet();
+        }
+        log.debug("Кэш ответов сброшен после изменения {}: {}", family, family.invalidatedByWrite());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        String tag = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static int bodyLength(ResponseEntity<Object> response) {
+        return response.getBody() instanceof byte[] ? ((byte[]) response.getBody()).length : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.client;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Ответ сервера, передаваемый клиенту шлюза без разбора тела.
+ * Заголовки копируются, кроме относящихся к соединению между шлюзом и сервером.
+ */
+final class GatewayResponses {
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade", "content-length");
+
+    private GatewayResponses() {
+    }
+
+    static ResponseEntity<Object> passthrough(HttpStatus status, @Nullable HttpHeaders headers,
+            @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
+        copyHeaders(headers, (name, values) -> responseBuilder.header(name, values.toArray(new String[0])));
+
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
+        }
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * Статус и заголовки для ответа, тело которого шлюз пишет потоком.
+     */
+    static void passthroughHeaders(HttpStatus status, @Nullable HttpHeaders headers,
+            HttpServletResponse target) {
+        target.setStatus(status.value());
+        copyHeaders(headers, (name, values) -> values.forEach(value -> target.addHeader(name, value)));
+    }
+
+    static ResponseEntity<Flux<DataBuffer>> passthroughStream(HttpStatus status, @Nullable HttpHeaders headers,
+            Flux<DataBuffer> body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
+        copyHeaders(headers, (name, values) -> responseBuilder.header(name, values.toArray(new String[0])));
+        return responseBuilder.body(body);
+    }
+
+    private static void copyHeaders(@Nullable HttpHeaders headers, BiConsumer<String, List<String>> target) {
+        if (headers == null) {
+            return;
+        }
+        headers.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                target.accept(name, values);
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.client;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки общего пула соединений шлюза с сервером.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class HttpClientProperties {
+    private int maxTotal = 200;
+    private int maxPerRoute = 200;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Группы ресурсов сервера, ответы которых кэшируются и сбрасываются вместе.
+ */
+public enum ResourceFamily {
+    USERS,
+    ITEMS,
+    BOOKINGS,
+    REQUESTS;
+
+    /**
+     * Группы, ответы которых могут устареть после изменяющего запроса к этой группе.
+     * Пользователь виден в вещах, комментариях и бронированиях, вещь - в запросах и бронированиях,
+     * бронирование - в последнем и следующем бронировании вещи.
+     */
+    public Set<ResourceFamily> invalidatedByWrite() {
+        switch (this) {
+            case USERS:
+                return EnumSet.allOf(ResourceFamily.class);
+            case ITEMS:
+                return EnumSet.of(ITEMS, REQUESTS, BOOKINGS);
+            case BOOKINGS:
+                return EnumSet.of(BOOKINGS, ITEMS);
+            default:
+                return EnumSet.of(this);
+        }
+    }
+}
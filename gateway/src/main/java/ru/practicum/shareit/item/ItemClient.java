@@ -1,17 +1,21 @@
 package ru.practicum.shareit.item;
 
+import java.io.InputStream;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResourceFamily;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
 
 @Service
+@Profile("!reactive")
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
@@ -19,8 +23,7 @@ public class ItemClient extends BaseClient {
     public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder rest) {
         super(rest
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+                .build(), ResourceFamily.ITEMS);
     }
 
     public ResponseEntity<Object> getUserItems(long userId) {
@@ -36,16 +39,25 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDTO);
     }
 
+    public ResponseEntity<Object> addItems(long userId, InputStream ndjson) {
+        return postStream("/bulk", userId, MediaType.APPLICATION_NDJSON, ndjson);
+    }
+
     public ResponseEntity<Object> update(long userId, ItemDTO itemDTO, long itemId) {
         return patch("/" + itemId, userId, itemDTO);
     }
 
     public void deleteItem(long userId, long itemId) {
-        delete("/" + userId, itemId);
+        delete("/" + itemId, userId);
+    }
+
+    public ResponseEntity<Object> searchItem(String text, long userId, long from, long size) {
+        return get("/search?text={text}&from={from}&size={size}", userId,
+                Map.of("text", text, "from", from, "size", size));
     }
 
-    public ResponseEntity<Object> searchItem(String text, long userId) {
-        return get("/search?text={text}", userId, Map.of("text", text));
+    public ResponseEntity<Object> suggest(String text, long userId, long size) {
+        return get("/search/suggest?text={text}&size={size}", userId, Map.of("text", text, "size", size));
     }
 
     public ResponseEntity<Object> createComment(long userId, long itemId, InputCommentDto text) {
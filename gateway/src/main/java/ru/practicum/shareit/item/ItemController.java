@@ -1,8 +1,12 @@
 package ru.practicum.shareit.item;
 
 
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,8 +20,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.validation.RequestValidator;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/items")
 @RequiredArgsConstructor
 public class ItemController {
@@ -42,6 +48,12 @@ public class ItemController {
         return itemClient.addItem(userId, itemDTO);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Object> addAll(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            HttpServletRequest request) throws IOException {
+        return itemClient.addItems(userId, request.getInputStream());
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> update(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
             @RequestBody ItemDTO itemDTO,
@@ -59,8 +71,19 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> searchItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
-            @RequestParam String text) {
-        return itemClient.searchItem(text, userId);
+            @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        RequestValidator.validatePage(from, size);
+        return itemClient.searchItem(text, userId, from, size);
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<Object> suggest(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        RequestValidator.validateSize(size);
+        return itemClient.suggest(text, userId, size);
     }
 
     @PostMapping("/{itemId}/comment")
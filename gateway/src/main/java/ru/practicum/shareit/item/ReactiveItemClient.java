@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.InputCommentDto;
+import ru.practicum.shareit.item.dto.ItemDTO;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder webClient) {
+        super(webClient
+                .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .build());
+    }
+
+    public Mono<ResponseEntity<Object>> getUserItems(long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getItem(long userId, long itemId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> addItem(Long userId, ItemDTO itemDTO) {
+        return post("", userId, itemDTO);
+    }
+
+    public Mono<ResponseEntity<Object>> addItems(long userId, Flux<DataBuffer> ndjson) {
+        return postStream("/bulk", userId, MediaType.APPLICATION_NDJSON, ndjson);
+    }
+
+    public Mono<ResponseEntity<Object>> update(long userId, ItemDTO itemDTO, long itemId) {
+        return patch("/" + itemId, userId, itemDTO);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteItem(long userId, long itemId) {
+        return delete("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> searchItem(String text, long userId, long from, long size) {
+        return get("/search?text={text}&from={from}&size={size}", userId,
+                Map.of("text", text, "from", from, "size", size));
+    }
+
+    public Mono<ResponseEntity<Object>> suggest(String text, long userId, long size) {
+        return get("/search/suggest?text={text}&size={size}", userId, Map.of("text", text, "size", size));
+    }
+
+    public Mono<ResponseEntity<Object>> createComment(long userId, long itemId, InputCommentDto text) {
+        return post("/" + itemId + "/comment", userId, text);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item;
+
+import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
+
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.InputCommentDto;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.validation.RequestValidator;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ReactiveItemController {
+
+    private final ReactiveItemClient itemClient;
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getUserItems(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId) {
+        return itemClient.getUserItems(userId);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> getItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @PathVariable long itemId) {
+        return itemClient.getItem(userId, itemId);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> add(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userId,
+            @RequestBody @Valid ItemDTO itemDTO) {
+        return itemClient.addItem(userId, itemDTO);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Object>> addAll(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            ServerHttpRequest request) {
+        return itemClient.addItems(userId, request.getBody());
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> update(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @RequestBody ItemDTO itemDTO,
+            @PathVariable long itemId) {
+        if (itemDTO.getId() == null) {
+            itemDTO.setId(itemId);
+        }
+        return itemClient.update(userId, itemDTO, itemId);
+    }
+
+    @DeleteMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> deleteItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @PathVariable long itemId) {
+        return itemClient.deleteItem(userId, itemId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> searchItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        RequestValidator.validatePage(from, size);
+        return itemClient.searchItem(text, userId, from, size);
+    }
+
+    @GetMapping("/search/suggest")
+    public Mono<ResponseEntity<Object>> suggest(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        RequestValidator.validateSize(size);
+        return itemClient.suggest(text, userId, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Object>> createComment(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId,
+            @RequestBody @Valid InputCommentDto text, @PathVariable long itemId) {
+        return itemClient.createComment(userId, itemId, text);
+    }
+}
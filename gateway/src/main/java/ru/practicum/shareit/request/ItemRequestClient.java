@@ -1,15 +1,18 @@
 package ru.practicum.shareit.request;
 
+import java.util.HashMap;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResourceFamily;
 
 @Service
+@Profile("!reactive")
 public class ItemRequestClient extends BaseClient {
 
     private static final String API_PREFIX = "/requests";
@@ -17,16 +20,21 @@ public class ItemRequestClient extends BaseClient {
     public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder rest) {
         super(rest
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+                .build(), ResourceFamily.REQUESTS);
     }
 
     public ResponseEntity<Object> postItemRequest(ItemRequestInputDto itemRequestData, Long creatorId) {
         return post("", creatorId, itemRequestData);
     }
 
-    public ResponseEntity<Object> getItemRequests(Long creatorId) {
-        return get("", creatorId);
+    public ResponseEntity<Object> getItemRequests(Long creatorId, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("?size={size}", creatorId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?size={size}&cursor={cursor}", creatorId, parameters);
     }
 
     public ResponseEntity<Object> getItemRequestsInPages(Long userId, Long from, Long size) {
@@ -5,6 +5,7 @@ import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
 
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,10 +15,11 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.RequestValidator;
 
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 public class ItemRequestController {
@@ -32,8 +34,11 @@ public class ItemRequestController {
     }
 
     @GetMapping()
-    ResponseEntity<Object> getItemsRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId) {
-        return itemRequestClient.getItemRequests(creatorId);
+    ResponseEntity<Object> getItemsRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId,
+            @RequestParam(defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validateSize(size);
+        return itemRequestClient.getItemRequests(creatorId, size, cursor);
     }
 
     @GetMapping("/all")
@@ -41,12 +46,7 @@ public class ItemRequestController {
             @RequestParam(defaultValue = "0") Long from,
             @RequestParam(defaultValue = "10") Long size
     ) {
-        if (from < 0) {
-            throw new BadRequestException("Индекс первого элемента не может быть меньше нуля");
-        }
-        if (size < 0 || size == 0) {
-            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
-        }
+        RequestValidator.validatePage(from, size);
         return itemRequestClient.getItemRequestsInPages(userId, from, size);
     }
 
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.request;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder webClient) {
+        super(webClient
+                .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .build());
+    }
+
+    public Mono<ResponseEntity<Object>> postItemRequest(ItemRequestInputDto itemRequestData, Long creatorId) {
+        return post("", creatorId, itemRequestData);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequests(Long creatorId, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("?size={size}", creatorId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?size={size}&cursor={cursor}", creatorId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequestsInPages(Long userId, Long from, Long size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("/all?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequest(Long userId, Long requestId) {
+        return get("/" + requestId, userId);
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.request;
+
+import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
+
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.validation.RequestValidator;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+public class ReactiveItemRequestController {
+
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @PostMapping()
+    Mono<ResponseEntity<Object>> postItemRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId,
+            @RequestBody @Valid ItemRequestInputDto inputDto) {
+        return itemRequestClient.postItemRequest(inputDto, creatorId);
+    }
+
+    @GetMapping()
+    Mono<ResponseEntity<Object>> getItemsRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId,
+            @RequestParam(defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        RequestValidator.validateSize(size);
+        return itemRequestClient.getItemRequests(creatorId, size, cursor);
+    }
+
+    @GetMapping("/all")
+    Mono<ResponseEntity<Object>> getItemsRequestInPages(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userId,
+            @RequestParam(defaultValue = "0") Long from,
+            @RequestParam(defaultValue = "10") Long size) {
+        RequestValidator.validatePage(from, size);
+        return itemRequestClient.getItemRequestsInPages(userId, from, size);
+    }
+
+    @GetMapping("{requestId}")
+    Mono<ResponseEntity<Object>> getItemRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userId,
+            @PathVariable Long requestId) {
+        return itemRequestClient.getItemRequest(userId, requestId);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.model.User;
+
+@Service
+@Profile("reactive")
+public class ReactiveUserClient extends ReactiveBaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder webClient) {
+        super(webClient
+                .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .build());
+    }
+
+    public Mono<ResponseEntity<Object>> getUser(long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Object>> saveUser(User user) {
+        return post("", user);
+    }
+
+    public Mono<ResponseEntity<Object>> updateUser(int userId, UserDTO userDTO) {
+        return patch("/" + userId, userDTO);
+    }
+
+    public Mono<ResponseEntity<Object>> removeUser(long userId) {
+        return delete("/" + userId);
+    }
+}
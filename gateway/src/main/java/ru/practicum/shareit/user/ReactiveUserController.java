@@ -0,0 +1,50 @@
+package ru.practicum.shareit.user;
+
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.model.User;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@RequestMapping("/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable long userId) {
+        return userClient.getUser(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return userClient.getAllUsers();
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> saveNewUser(@RequestBody @Valid User user) {
+        return userClient.saveUser(user);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> updateUser(@PathVariable int userId, @RequestBody UserDTO userDTO) {
+        return userClient.updateUser(userId, userDTO);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable long userId) {
+        return userClient.removeUser(userId);
+    }
+}
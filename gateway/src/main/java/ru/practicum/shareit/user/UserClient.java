@@ -2,14 +2,16 @@ package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResourceFamily;
 import ru.practicum.shareit.user.model.User;
 
 @Service
+@Profile("!reactive")
 public class UserClient extends BaseClient {
 
     private static final String API_PREFIX = "/users";
@@ -17,8 +19,7 @@ public class UserClient extends BaseClient {
     public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder rest) {
         super(rest
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+                .build(), ResourceFamily.USERS);
     }
 
     public ResponseEntity<Object> getUser(long userId) {
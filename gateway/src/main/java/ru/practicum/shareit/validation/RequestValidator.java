@@ -0,0 +1,30 @@
+package ru.practicum.shareit.validation;
+
+import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+/**
+ * Проверки параметров запросов, общие для контроллеров обоих режимов шлюза.
+ */
+public final class RequestValidator {
+
+    private RequestValidator() {
+    }
+
+    public static void validatePage(Long from, Long size) {
+        if (from < 0) {
+            throw new BadRequestException("Индекс первого элемента не может быть меньше нуля");
+        }
+        validateSize(size);
+    }
+
+    public static void validateSize(Long size) {
+        if (size <= 0) {
+            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
+        }
+    }
+
+    public static boolean isBookingPeriodValid(BookingInputDto bookingInputDto) {
+        return bookingInputDto.getEnd().isAfter(bookingInputDto.getStart());
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Сколько одновременных запросов выдерживает шлюз в режимах servlet и reactive,
+ * если сервер отвечает с задержкой. Пул соединений с сервером не ограничивает ни один из режимов,
+ * запросы разных пользователей не объединяются и не берутся из кэша.
+ * Запуск: mvn test -P benchmark -pl gateway
+ */
+@Tag("benchmark")
+class GatewayConcurrencyBenchmarkTest {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final Duration SERVER_DELAY = Duration.ofMillis(200);
+
+    @DisplayName("Одновременные запросы к шлюзу при медленном сервере")
+    @Test
+    void concurrentConnections() {
+        LoopResources serverLoops = LoopResources.create("stub-server");
+        DisposableServer server = HttpServer.create()
+                .runOn(serverLoops)
+                .port(0)
+                .handle((request, response) -> Mono.delay(SERVER_DELAY)
+                        .then(response.header("Content-Type", "application/json").sendString(Mono.just("[]")).then()))
+                .bindNow();
+        try {
+            for (String profile : new String[]{"servlet", "reactive"}) {
+                try (ConfigurableApplicationContext gateway = new SpringApplicationBuilder(ShareItGateway.class)
+                        .profiles(profile)
+                        .run("--server.port=0",
+                                "--shareit-server.url=http://localhost:" + server.port(),
+                                "--shareit-server.http-client.max-total=" + CONCURRENT_REQUESTS,
+                                "--shareit-server.http-client.max-per-route=" + CONCURRENT_REQUESTS,
+                                "--logging.level.org.springframework.web.client.RestTemplate=INFO")) {
+                    int port = Integer.parseInt(gateway.getEnvironment().getProperty("local.server.port"));
+                    load(profile, port);
+                    load(profile, port);
+                }
+            }
+        } finally {
+            server.disposeNow();
+            serverLoops.dispose();
+        }
+    }
+
+    private void load(String profile, int port) {
+        ConnectionProvider connections = ConnectionProvider.builder("benchmark")
+                .maxConnections(CONCURRENT_REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources clientLoops = LoopResources.create("load");
+        HttpClient client = HttpClient.create(connections)
+                .runOn(clientLoops)
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(60));
+        AtomicInteger succeeded = new AtomicInteger();
+        long started = System.nanoTime();
+        Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> client.headers(headers -> headers.set("X-Sharer-User-Id", String.valueOf(i)))
+                                .get().uri("/bookings/owner")
+                        .responseSingle((response, body) -> body.asString().map(text -> response.status().code())),
+                        CONCURRENT_REQUESTS)
+                .filter(code -> code == 200)
+                .doOnNext(code -> succeeded.incrementAndGet())
+                .blockLast(Duration.ofMinutes(2));
+        double seconds = (System.nanoTime() - started) / 1e9;
+        connections.disposeLater().block();
+        clientLoops.dispose();
+        Assertions.assertEquals(CONCURRENT_REQUESTS, succeeded.get());
+        System.out.printf("%-9s requests=%d in flight, server delay=%d ms: wall=%.2f s, throughput=%.0f req/s%n",
+                profile, CONCURRENT_REQUESTS, SERVER_DELAY.toMillis(), seconds, CONCURRENT_REQUESTS / seconds);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.ReactiveItemController;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveGatewayContextTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void reactiveProfileRunsOnNettyWithReactiveBeansOnly() {
+        Assertions.assertInstanceOf(NettyWebServer.class, context.getWebServer());
+        Assertions.assertEquals(4, context.getBeansOfType(ReactiveBaseClient.class).size());
+        Assertions.assertTrue(context.getBeansOfType(BaseClient.class).isEmpty());
+        Assertions.assertNotNull(context.getBean(ReactiveItemController.class));
+        Assertions.assertTrue(context.getBeansOfType(ItemController.class).isEmpty());
+    }
+}
@@ -2,20 +2,24 @@ package ru.practicum.shareit.booking;
 
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.client.MockRestServiceServer;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
 import ru.practicum.shareit.booking.enums.BookingStatus;
@@ -91,7 +95,7 @@ class BookingClientTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(string, MediaType.APPLICATION_JSON));
 
-        ResponseEntity<Object> responseEntity = this.client.getAllBookings(1L, "ALL", 0L, 3L);
+        ResponseEntity<Object> responseEntity = this.client.getAllBookings(1L, "ALL", 0L, 3L, null);
         Assertions.assertNotNull(responseEntity);
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         Object bookings = responseEntity.getBody();
@@ -112,10 +116,56 @@ class BookingClientTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(string, MediaType.APPLICATION_JSON));
 
-        ResponseEntity<Object> responseEntity = this.client.getAllOwnerBookings(1L, "ALL", 0L, 3L);
+        ResponseEntity<Object> responseEntity = this.client.getAllOwnerBookings(1L, "ALL", 0L, 3L, null);
         Assertions.assertNotNull(responseEntity);
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         Object bookings = responseEntity.getBody();
         Assertions.assertNotNull(bookings);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllOwnerBookingsByCursor() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "bmV4dA");
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/bookings/owner?state=ALL&from=0&size=3"
+                        + "&cursor=Y3Vyc29y"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<Object> responseEntity = this.client.getAllOwnerBookings(1L, "ALL", 0L, 3L, "Y3Vyc29y");
+        Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        Assertions.assertEquals("bmV4dA", responseEntity.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
+    @Test
+    void exportOwnerBookings() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings.csv\"");
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/bookings/owner/export?format=csv"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("id,itemId\n1,2\n", new MediaType("text", "csv")).headers(headers));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        client.exportOwnerBookings(1L, "csv", response);
+
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals("text/csv", response.getContentType());
+        Assertions.assertEquals("attachment; filename=\"bookings.csv\"",
+                response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        Assertions.assertEquals("id,itemId\n1,2\n", response.getContentAsString());
+    }
+
+    @Test
+    void exportOwnerBookingsPassesErrorThrough() throws Exception {
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/bookings/owner/export?format=xml"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Неизвестный формат выгрузки: xml\"}"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        client.exportOwnerBookings(1L, "xml", response);
+
+        Assertions.assertEquals(400, response.getStatus());
+        Assertions.assertTrue(response.getContentAsString(StandardCharsets.UTF_8)
+                .contains("Неизвестный формат"));
+    }
+}
@@ -153,7 +153,7 @@ class BookingControllerTest {
 
         List<Booking> expectedBookings = Arrays.asList(new Booking(), new Booking());
         Mockito.when(bookingClient.getAllBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
-                        Mockito.anyLong()))
+                        Mockito.anyLong(), Mockito.isNull()))
                 .thenReturn(ResponseEntity.ok().body(expectedBookings));
 
         mockMvc.perform(get("/bookings")
@@ -166,7 +166,7 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.[*].id").exists());
 
         Mockito.verify(bookingClient).getAllBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
-                Mockito.anyLong());
+                Mockito.anyLong(), Mockito.isNull());
     }
 
     @DisplayName("Проверка получения всх бронирований владельцем")
@@ -179,7 +179,7 @@ class BookingControllerTest {
 
         List<Booking> expectedBookings = Arrays.asList(new Booking(), new Booking());
         Mockito.when(bookingClient.getAllOwnerBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
-                        Mockito.anyLong()))
+                        Mockito.anyLong(), Mockito.isNull()))
                 .thenReturn(ResponseEntity.ok().body(expectedBookings));
 
         mockMvc.perform(get("/bookings/owner")
@@ -192,7 +192,7 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.[*].id").exists());
 
         Mockito.verify(bookingClient).getAllOwnerBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
-                Mockito.anyLong());
+                Mockito.anyLong(), Mockito.isNull());
     }
 
     @Order(1)
@@ -212,7 +212,7 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest()));
 
         Mockito.verify(bookingClient, Mockito.never()).getAllBookings(Mockito.anyLong(), Mockito.anyString(),
-                Mockito.anyLong(), Mockito.anyLong());
+                Mockito.anyLong(), Mockito.anyLong(), Mockito.isNull());
     }
 
     @Order(2)
@@ -232,6 +232,6 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest()));
 
         Mockito.verify(bookingClient, Mockito.never()).getAllBookings(Mockito.anyLong(), Mockito.anyString(),
-                Mockito.anyLong(), Mockito.anyLong());
+                Mockito.anyLong(), Mockito.anyLong(), Mockito.isNull());
     }
 }
\ No newline at end of file
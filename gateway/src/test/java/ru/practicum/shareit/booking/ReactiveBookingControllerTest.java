@@ -0,0 +1,118 @@
+package ru.practicum.shareit.booking;
+
+import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.exceptions.ExceptionsHandler;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveBookingControllerTest {
+
+    @Mock
+    private ReactiveBookingClient bookingClient;
+
+    @InjectMocks
+    private ReactiveBookingController bookingController;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(bookingController)
+                .controllerAdvice(new ExceptionsHandler())
+                .build();
+    }
+
+    @DisplayName("Список бронирований передаётся клиенту вместе с заголовками сервера")
+    @Test
+    void getAllUserBookings() {
+        Mockito.when(bookingClient.getAllBookings(1L, "ALL", 0L, 10L, null))
+                .thenReturn(Mono.just(ResponseEntity.ok().header("X-Next-Cursor", "bmV4dA")
+                        .contentType(MediaType.APPLICATION_JSON).body("[{\"id\":1}]".getBytes())));
+
+        webTestClient.get().uri("/bookings")
+                .header(CUSTOM_USER_ID_HEADER, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "bmV4dA")
+                .expectBody().jsonPath("$[0].id").isEqualTo(1);
+    }
+
+    @DisplayName("Отрицательный from отклоняется без обращения к серверу")
+    @Test
+    void getAllUserBookingsWithInvalidFrom() {
+        webTestClient.get().uri("/bookings?from=-1&size=10")
+                .header(CUSTOM_USER_ID_HEADER, "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Индекс первого элемента не может быть меньше нуля");
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @DisplayName("Окончание бронирования раньше начала отклоняется без обращения к серверу")
+    @Test
+    void addWithEndBeforeStart() {
+        BookingInputDto bookingInputDto = BookingInputDto.builder()
+                .start(LocalDateTime.now().plusHours(10))
+                .end(LocalDateTime.now().plusHours(2))
+                .itemId(1L)
+                .build();
+
+        webTestClient.post().uri("/bookings")
+                .header(CUSTOM_USER_ID_HEADER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookingInputDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @DisplayName("Тело без обязательных полей отклоняется валидацией")
+    @Test
+    void addWithInvalidBody() {
+        webTestClient.post().uri("/bookings")
+                .header(CUSTOM_USER_ID_HEADER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("itemId", 1))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @DisplayName("Выгрузка бронирований передаётся клиенту потоком")
+    @Test
+    void exportOwnersBookings() {
+        Flux<DataBuffer> body = Flux.just("id,itemId\n", "1,2\n")
+                .map(line -> DefaultDataBufferFactory.sharedInstance.wrap(line.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(bookingClient.exportOwnerBookings(1L, "csv"))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(new MediaType("text", "csv")).body(body)));
+
+        webTestClient.get().uri("/bookings/owner/export")
+                .header(CUSTOM_USER_ID_HEADER, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("text/csv")
+                .expectBody(String.class).isEqualTo("id,itemId\n1,2\n");
+    }
+}
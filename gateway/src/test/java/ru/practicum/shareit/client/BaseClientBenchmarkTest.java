@@ -0,0 +1,90 @@
+package ru.practicum.shareit.client;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Процессорное время и объём выделенной памяти шлюза на запрос: разбор ответа сервера в Object
+ * с повторной сериализацией против передачи байтов как есть.
+ * Запуск: mvn test -P benchmark -pl gateway
+ */
+@Tag("benchmark")
+class BaseClientBenchmarkTest {
+
+    private static final int BOOKINGS = 1_000;
+    private static final int ITERATIONS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RestTemplate rest = new RestTemplate();
+
+    @DisplayName("Передача ответа сервера со списком из тысячи бронирований")
+    @Test
+    void passthroughCpuPerRequest() throws JsonProcessingException {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(rest).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.manyTimes(), requestTo("/bookings/owner"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(bookings()), MediaType.APPLICATION_JSON));
+        BaseClient client = new BaseClient(rest);
+
+        measure("object tree", () -> {
+            ResponseEntity<Object> response = rest.exchange("/bookings/owner", HttpMethod.GET,
+                    HttpEntity.EMPTY, Object.class);
+            try {
+                return objectMapper.writeValueAsBytes(response.getBody());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        measure("passthrough", () -> (byte[]) client.get("/bookings/owner").getBody());
+    }
+
+    private void measure(String name, Supplier<byte[]> request) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytes = 0;
+        for (int i = 0; i < ITERATIONS / 2; i++) {
+            bytes += request.get().length;
+        }
+        long cpu = threads.getCurrentThreadCpuTime();
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += request.get().length;
+        }
+        cpu = threads.getCurrentThreadCpuTime() - cpu;
+        allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated;
+        Assertions.assertTrue(bytes > 0);
+        System.out.printf("%-12s cpu=%8.1f us/request allocated=%8.1f KB/request%n", name,
+                cpu / 1e3 / ITERATIONS, allocated / 1024.0 / ITERATIONS);
+    }
+
+    private static List<Map<String, Object>> bookings() {
+        List<Map<String, Object>> bookings = new ArrayList<>(BOOKINGS);
+        for (long id = 1; id <= BOOKINGS; id++) {
+            bookings.add(Map.of("id", id,
+                    "start", "2024-01-01T10:00:00",
+                    "end", "2024-01-02T10:00:00",
+                    "status", "APPROVED",
+                    "item", Map.of("id", id, "name", "Дрель " + id, "description", "Аккумуляторная дрель",
+                            "available", true),
+                    "booker", Map.of("id", id + 1, "name", "Пользователь " + id, "email", "user" + id + "@mail.ru")));
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,261 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+class BaseClientTest {
+
+    private static final int THREADS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private ExecutorService executor;
+    private BaseClient client;
+    private BooleanSupplier releaseResponse;
+    private HttpStatus status = HttpStatus.OK;
+    private String etag;
+    private Error upstreamFailure;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.globalRegistry.add(meterRegistry);
+        executor = Executors.newFixedThreadPool(THREADS);
+        RestTemplate rest = new RestTemplate((uri, method) -> {
+            upstreamCalls.incrementAndGet();
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri) {
+                @Override
+                protected MockClientHttpResponse executeInternal() {
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (!releaseResponse.getAsBoolean() && System.nanoTime() < deadline) {
+                        Thread.onSpinWait();
+                    }
+                    if (upstreamFailure != null) {
+                        throw upstreamFailure;
+                    }
+                    if (etag != null && getHeaders().getIfNoneMatch().contains(etag)) {
+                        MockClientHttpResponse notModified = new MockClientHttpResponse(new byte[0],
+                                HttpStatus.NOT_MODIFIED);
+                        notModified.getHeaders().setETag(etag);
+                        return notModified;
+                    }
+                    MockClientHttpResponse response = new MockClientHttpResponse(
+                            (method + " " + uri.getPath()).getBytes(StandardCharsets.UTF_8), status);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    if (etag != null) {
+                        response.getHeaders().setETag(etag);
+                    }
+                    return response;
+                }
+            };
+            return request;
+        });
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/items"));
+        client = new BaseClient(rest, ResourceFamily.ITEMS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        executor.shutdownNow();
+        Metrics.globalRegistry.remove(meterRegistry);
+        meterRegistry.close();
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneUpstreamRequest() throws Exception {
+        releaseResponse = () -> counter("coalesced") == THREADS - 1;
+
+        List<ResponseEntity<Object>> responses = runConcurrently(() -> client.get("/1", 1L));
+
+        Assertions.assertEquals(1, upstreamCalls.get());
+        for (ResponseEntity<Object> response : responses) {
+            Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+            Assertions.assertArrayEquals("GET /items/1".getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        }
+        Assertions.assertEquals(1, counter("upstream"));
+        Assertions.assertEquals(THREADS - 1, counter("coalesced"));
+    }
+
+    @Test
+    void leaderErrorIsRethrownToCoalescedGets() throws Exception {
+        upstreamFailure = new Error("Сбой при чтении ответа");
+        releaseResponse = () -> counter("coalesced") == THREADS - 1;
+
+        List<Future<ResponseEntity<Object>>> futures = submitConcurrently(() -> client.get("/1", 1L));
+
+        for (Future<ResponseEntity<Object>> future : futures) {
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS));
+            Assertions.assertSame(upstreamFailure, e.getCause());
+        }
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertEquals(THREADS - 1, counter("coalesced"));
+    }
+
+    @Test
+    void getsOfDifferentUsersAreNotCoalesced() throws Exception {
+        AtomicInteger userId = new AtomicInteger();
+        releaseResponse = () -> upstreamCalls.get() == THREADS;
+
+        runConcurrently(() -> client.get("/1", (long) userId.incrementAndGet()));
+
+        Assertions.assertEquals(THREADS, upstreamCalls.get());
+        Assertions.assertEquals(0, counter("coalesced"));
+    }
+
+    @Test
+    void postsAreNeverCoalesced() throws Exception {
+        releaseResponse = () -> upstreamCalls.get() == THREADS;
+
+        List<ResponseEntity<Object>> responses = runConcurrently(() -> client.post("/1", 1L, "{}"));
+
+        Assertions.assertEquals(THREADS, upstreamCalls.get());
+        Assertions.assertArrayEquals("POST /items/1".getBytes(StandardCharsets.UTF_8),
+                (byte[]) responses.get(0).getBody());
+        Assertions.assertEquals(0, counter("coalesced"));
+    }
+
+    @Test
+    void sequentialGetsAreNotCoalesced() {
+        releaseResponse = () -> true;
+
+        client.get("/1", 1L);
+        client.get("/1", 1L);
+
+        Assertions.assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void cachedGetIsServedUntilWriteInvalidatesIt() {
+        releaseResponse = () -> true;
+        client.setResponseCache(new GatewayResponseCache(1 << 20, Duration.ofMinutes(1), meterRegistry));
+
+        client.get("/1", 1L);
+        client.get("/1", 1L);
+        Assertions.assertEquals(1, upstreamCalls.get());
+
+        client.get("/1", 2L);
+        Assertions.assertEquals(2, upstreamCalls.get());
+
+        client.patch("/1", 1L, "{}");
+        client.get("/1", 1L);
+        client.get("/1", 2L);
+        Assertions.assertEquals(5, upstreamCalls.get());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "gatewayResponses")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void writeToOtherFamilyInvalidatesDependentResponses() {
+        releaseResponse = () -> true;
+        GatewayResponseCache responseCache = new GatewayResponseCache(1 << 20, Duration.ofMinutes(1), meterRegistry);
+        client.setResponseCache(responseCache);
+
+        client.get("/1", 1L);
+        responseCache.invalidateAfterWrite(ResourceFamily.REQUESTS);
+        client.get("/1", 1L);
+        Assertions.assertEquals(1, upstreamCalls.get());
+
+        responseCache.invalidateAfterWrite(ResourceFamily.BOOKINGS);
+        client.get("/1", 1L);
+        Assertions.assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void errorResponsesAreNotCached() {
+        releaseResponse = () -> true;
+        status = HttpStatus.NOT_FOUND;
+        client.setResponseCache(new GatewayResponseCache(1 << 20, Duration.ofMinutes(1), meterRegistry));
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, client.get("/1", 1L).getStatusCode());
+        client.get("/1", 1L);
+
+        Assertions.assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void ifNoneMatchIsForwardedAndNotModifiedIsPassedThrough() {
+        releaseResponse = () -> true;
+        etag = "\"0a1b\"";
+        ifNoneMatch(etag);
+
+        ResponseEntity<Object> response = client.get("/1", 1L);
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        Assertions.assertEquals(etag, response.getHeaders().getETag());
+        Assertions.assertNull(response.getBody());
+    }
+
+    @Test
+    void cachedResponseMatchingIfNoneMatchIsAnsweredWithoutServer() {
+        releaseResponse = () -> true;
+        etag = "\"0a1b\"";
+        client.setResponseCache(new GatewayResponseCache(1 << 20, Duration.ofMinutes(1), meterRegistry));
+
+        Assertions.assertEquals(HttpStatus.OK, client.get("/1", 1L).getStatusCode());
+        ifNoneMatch("\"stale\", W/" + etag);
+        ResponseEntity<Object> notModified = client.get("/1", 1L);
+        ifNoneMatch("\"stale\"");
+        ResponseEntity<Object> cached = client.get("/1", 1L);
+
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        Assertions.assertEquals(etag, notModified.getHeaders().getETag());
+        Assertions.assertNull(notModified.getBody());
+        Assertions.assertEquals(HttpStatus.OK, cached.getStatusCode());
+        Assertions.assertArrayEquals("GET /items/1".getBytes(StandardCharsets.UTF_8), (byte[]) cached.getBody());
+    }
+
+    private static void ifNoneMatch(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, value);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private List<ResponseEntity<Object>> runConcurrently(Callable<ResponseEntity<Object>> request) throws Exception {
+        List<ResponseEntity<Object>> responses = new ArrayList<>();
+        for (Future<ResponseEntity<Object>> future : submitConcurrently(request)) {
+            responses.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    private List<Future<ResponseEntity<Object>>> submitConcurrently(Callable<ResponseEntity<Object>> request) {
+        List<Future<ResponseEntity<Object>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(request));
+        }
+        return futures;
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("gateway.client.get.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class, RestTemplateAutoConfiguration.class))
+            .withUserConfiguration(HttpClientConfig.class)
+            .withBean(SimpleMeterRegistry.class)
+            .withPropertyValues("shareit-server.http-client.max-total=50",
+                    "shareit-server.http-client.max-per-route=20");
+
+    @Test
+    void allClientsShareOnePool() {
+        contextRunner.run(context -> {
+            PoolingHttpClientConnectionManager connectionManager =
+                    context.getBean(PoolingHttpClientConnectionManager.class);
+            Assertions.assertEquals(50, connectionManager.getMaxTotal());
+            Assertions.assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+
+            RestTemplateBuilder builder = context.getBean(RestTemplateBuilder.class);
+            RestTemplate first = builder.build();
+            RestTemplate second = builder.build();
+            Assertions.assertSame(context.getBean(ClientHttpRequestFactory.class), first.getRequestFactory());
+            Assertions.assertSame(first.getRequestFactory(), second.getRequestFactory());
+
+            Assertions.assertNotNull(context.getBean(MeterRegistry.class).find("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "shareit-server").gauge());
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.item.ReactiveItemClient;
+
+class ReactiveBaseClientTest {
+
+    private final AtomicReference<ClientRequest> request = new AtomicReference<>();
+
+    @Test
+    void getPassesServerResponseThrough() {
+        ReactiveBookingClient client = new ReactiveBookingClient("http://localhost:9090",
+                builder(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .header("X-Next-Cursor", "bmV4dA")
+                        .header(HttpHeaders.CONNECTION, "keep-alive")
+                        .body("[{\"id\":1}]")
+                        .build()));
+
+        ResponseEntity<Object> response = client.getAllOwnerBookings(1L, "ALL", 0L, 3L, "Y3Vyc29y").block();
+
+        Assertions.assertEquals(HttpMethod.GET, request.get().method());
+        Assertions.assertEquals("http://localhost:9090/bookings/owner?state=ALL&from=0&size=3&cursor=Y3Vyc29y",
+                request.get().url().toString());
+        Assertions.assertEquals("1", request.get().headers().getFirst("X-Sharer-User-Id"));
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertEquals("bmV4dA", response.getHeaders().getFirst("X-Next-Cursor"));
+        Assertions.assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        Assertions.assertArrayEquals("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+    }
+
+    @Test
+    void errorStatusIsReturnedWithoutException() {
+        ReactiveItemClient client = new ReactiveItemClient("http://localhost:9090",
+                builder(ClientResponse.create(HttpStatus.NOT_FOUND)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"error\":\"Вещь не найдена\"}")
+                        .build()));
+
+        ResponseEntity<Object> response = client.getItem(2L, 1L).block();
+
+        Assertions.assertEquals("http://localhost:9090/items/1", request.get().url().toString());
+        Assertions.assertEquals("2", request.get().headers().getFirst("X-Sharer-User-Id"));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assertions.assertArrayEquals("{\"error\":\"Вещь не найдена\"}".getBytes(StandardCharsets.UTF_8),
+                (byte[]) response.getBody());
+    }
+
+    @Test
+    void emptyResponseHasNoBody() {
+        ReactiveItemClient client = new ReactiveItemClient("http://localhost:9090",
+                builder(ClientResponse.create(HttpStatus.OK).build()));
+
+        ResponseEntity<Object> response = client.deleteItem(2L, 1L).block();
+
+        Assertions.assertEquals(HttpMethod.DELETE, request.get().method());
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertFalse(response.hasBody());
+    }
+
+    private WebClient.Builder builder(ClientResponse response) {
+        return WebClient.builder()
+                .uriBuilderFactory(new DefaultUriBuilderFactory())
+                .exchangeFunction(clientRequest -> {
+                    request.set(clientRequest);
+                    return Mono.just(response);
+                });
+    }
+}
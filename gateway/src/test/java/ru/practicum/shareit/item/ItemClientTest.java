@@ -6,8 +6,11 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,6 +111,21 @@ class ItemClientTest {
         Assertions.assertEquals(HttpStatus.OK, addItemResponse.getStatusCode());
     }
 
+    @Test
+    void addItems() {
+        String ndjson = "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n";
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/items/bulk"))
+                .andExpect(MockRestRequestMatchers.method(HttpMethod.POST))
+                .andExpect(MockRestRequestMatchers.header("X-Sharer-User-Id", "1"))
+                .andExpect(MockRestRequestMatchers.header("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(ndjson))
+                .andRespond(withSuccess("{\"imported\":1,\"errors\":[]}", MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = this.client.addItems(1L,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
     @Test
     void update() throws JsonProcessingException {
         ItemDTO itemDTO = new ItemDTO(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
@@ -127,21 +145,33 @@ class ItemClientTest {
     void deleteItem() {
         mockRestServiceServer.expect(requestTo("http://localhost:9090/items/1"))
                 .andExpect(MockRestRequestMatchers.method(HttpMethod.DELETE))
+                .andExpect(MockRestRequestMatchers.header("X-Sharer-User-Id", "2"))
                 .andRespond(withSuccess());
-        this.client.deleteItem(1L, 1L);
+        this.client.deleteItem(2L, 1L);
     }
 
 
     @Test
     void searchItem() throws JsonProcessingException {
         String response = objectMapper.writeValueAsString(Arrays.asList(item, item2, item3));
-        mockRestServiceServer.expect(requestTo("http://localhost:9090/items/search?text=test"))
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/items/search?text=test&from=0&size=10"))
                 .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
-        ResponseEntity<Object> searchResponse = this.client.searchItem("test", 1L);
+        ResponseEntity<Object> searchResponse = this.client.searchItem("test", 1L, 0L, 10L);
         Assertions.assertNotNull(searchResponse);
         Assertions.assertEquals(HttpStatus.OK, searchResponse.getStatusCode());
     }
 
+    @Test
+    void suggest() throws JsonProcessingException {
+        String response = objectMapper.writeValueAsString(List.of("test", "tests"));
+        mockRestServiceServer.expect(requestTo("http://localhost:9090/items/search/suggest?text=te&size=5"))
+                .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> suggestResponse = this.client.suggest("te", 1L, 5L);
+        Assertions.assertEquals(HttpStatus.OK, suggestResponse.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, suggestResponse.getHeaders().getContentType());
+        Assertions.assertArrayEquals(response.getBytes(StandardCharsets.UTF_8), (byte[]) suggestResponse.getBody());
+    }
+
     @Test
     void createComment() throws JsonProcessingException {
         Comment comment = new Comment();
@@ -10,7 +10,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.util.NestedServletException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
@@ -67,6 +70,21 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].available").value(true));
     }
 
+    @DisplayName("Тестирование загрузки предметов из NDJSON")
+    @Test
+    void addAllTest() throws Exception {
+        Mockito.when(client.addItems(Mockito.eq(2L), any()))
+                .thenReturn(ResponseEntity.ok(Map.of("imported", 1)));
+
+        mvc.perform(post("/items/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n")
+                        .header(CUSTOM_USER_ID_HEADER, 2)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1));
+    }
+
     @DisplayName("Тестирование получения одного предмета")
     @Test
     void getItemTest() throws Exception {
@@ -144,7 +162,7 @@ class ItemControllerTest {
                 new ItemDTO(2L, "Item 2", "Description 2", true, null)
         );
 
-        Mockito.when(client.searchItem(any(String.class), anyLong())).thenReturn(ResponseEntity.ok(itemList));
+        Mockito.when(client.searchItem(any(String.class), anyLong(), anyLong(), anyLong())).thenReturn(ResponseEntity.ok(itemList));
 
         mvc.perform(MockMvcRequestBuilders.get("/items/search")
                         .header(CUSTOM_USER_ID_HEADER, 1L)
@@ -157,7 +175,30 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].id", Matchers.is(2)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].name", Matchers.is("Item 2")))
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].description", Matchers.is("Description 2")));
-        Mockito.verify(client, Mockito.times(1)).searchItem(any(String.class), anyLong());
+        Mockito.verify(client, Mockito.times(1)).searchItem(any(String.class), anyLong(), anyLong(), anyLong());
+    }
+
+    @DisplayName("Проверка невозможности поиска с неположительным значением параметра size")
+    @Test
+    void searchItemWithInvalidSizeTest() {
+        Assertions.assertThrows(NestedServletException.class, () -> mvc.perform(MockMvcRequestBuilders.get("/items/search")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("text", "test")
+                        .param("size", "0"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest()));
+        Mockito.verify(client, Mockito.never()).searchItem(any(String.class), anyLong(), anyLong(), anyLong());
+    }
+
+    @DisplayName("Проверка подсказок при наборе запроса")
+    @Test
+    void suggest() throws Exception {
+        Mockito.when(client.suggest("te", 1L, 10L)).thenReturn(ResponseEntity.ok(List.of("test")));
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/search/suggest")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("text", "te"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0]", Matchers.is("test")));
     }
 
     @DisplayName("Проверка создания комментария")
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -73,14 +74,26 @@ class ItemRequestClientTest {
 
     @Test
     void getItemRequests() {
-        this.mockRestServiceServer.expect(requestTo("http://localhost:9090/requests"))
+        this.mockRestServiceServer.expect(requestTo("http://localhost:9090/requests?size=10"))
                 .andExpect(anything())
                 .andRespond(withSuccess(result, MediaType.APPLICATION_JSON));
-        ResponseEntity<Object> response = this.client.getItemRequests(1L);
+        ResponseEntity<Object> response = this.client.getItemRequests(1L, 10L, null);
         Assertions.assertNotNull(response);
         Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
+    @Test
+    void getItemRequestsByCursor() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "bmV4dA");
+        this.mockRestServiceServer.expect(requestTo("http://localhost:9090/requests?size=2&cursor=Y3Vyc29y"))
+                .andExpect(anything())
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+        ResponseEntity<Object> response = this.client.getItemRequests(1L, 2L, "Y3Vyc29y");
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals("bmV4dA", response.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
     @Test
     void getItemRequestsInPages() {
         this.mockRestServiceServer.expect(requestTo("http://localhost:9090/requests/all?from=0&size=1"))
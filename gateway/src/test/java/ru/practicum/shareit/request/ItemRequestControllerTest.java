@@ -81,7 +81,7 @@ class ItemRequestControllerTest {
     @DisplayName("Проверка получения запросов на предметы владельцем")
     @Test
     void getItemsRequest() throws Exception {
-        Mockito.when(itemRequestClient.getItemRequests(Mockito.any()))
+        Mockito.when(itemRequestClient.getItemRequests(Mockito.any(), Mockito.anyLong(), Mockito.any()))
                 .thenReturn(ResponseEntity.ok(List.of(requestDtoWithItems)));
         mvc.perform(get("/requests")
                         .header(CUSTOM_USER_ID_HEADER, 1)
@@ -132,6 +132,18 @@ class ItemRequestControllerTest {
                                 " не может быть меньше или равно нулю"))));
     }
 
+    @DisplayName("Проверка получения запросов владельцем с размером выдачи 0")
+    @Test
+    void getItemsRequestSizeZeroTest() {
+        Assertions.assertThrows(NestedServletException.class,
+                () -> mvc.perform(get("/requests?size=0")
+                                .header(CUSTOM_USER_ID_HEADER, 1)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isBadRequest()));
+        Mockito.verifyNoInteractions(itemRequestClient);
+    }
+
     @DisplayName("Проверка получения одного запроса на предмет")
     @Test
     void getItemRequestTest() throws Exception {
@@ -2,10 +2,13 @@ package ru.practicum.shareit.user;
 
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -50,11 +54,12 @@ class UserClientTest {
 
     @Test
     @SuppressWarnings("unchecked")
-    void getUser() {
+    void getUser() throws IOException {
         this.mockRestServiceServer.expect(requestTo("http://localhost:9090/users/1"))
                 .andRespond(withSuccess(request, MediaType.APPLICATION_JSON));
         ResponseEntity<Object> objectResponseEntity = this.client.getUser(1);
-        LinkedHashMap<String, String> userRes = (LinkedHashMap<String, String>) objectResponseEntity.getBody();
+        LinkedHashMap<String, String> userRes = objectMapper.readValue(
+                (byte[]) objectResponseEntity.getBody(), LinkedHashMap.class);
         assert userRes != null;
         Assertions.assertNull(userRes.get("id"));
         Assertions.assertEquals(user.getName(), userRes.get("name"));
@@ -63,14 +68,14 @@ class UserClientTest {
 
     @Test
     @SuppressWarnings("unchecked")
-    void getAllUsers() {
+    void getAllUsers() throws IOException {
         String response = "[{\"id\": 1, \"name\": \"user1\", \"email\": \"user1@example.com\"},"
                 + " {\"id\": 2, \"name\": \"user2\", \"email\": \"user2@example.com\"}]";
         this.mockRestServiceServer.expect(requestTo("http://localhost:9090/users"))
                 .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
         ResponseEntity<Object> objectResponseEntity = this.client.getAllUsers();
-        List<LinkedHashMap<String, String>> userList = (List<LinkedHashMap<String, String>>) objectResponseEntity
-                .getBody();
+        List<LinkedHashMap<String, String>> userList = objectMapper.readValue(
+                (byte[]) objectResponseEntity.getBody(), List.class);
         Assertions.assertNotNull(userList);
         Assertions.assertEquals(2, userList.size());
         Assertions.assertEquals(1, userList.get(0).get("id"));
@@ -83,14 +88,15 @@ class UserClientTest {
 
     @Test
     @SuppressWarnings("unchecked")
-    void saveUser() {
+    void saveUser() throws IOException {
         this.mockRestServiceServer.expect(requestTo("http://localhost:9090/users"))
                 .andExpect(content().json(request))
                 .andRespond(withSuccess(request, MediaType.APPLICATION_JSON));
         ResponseEntity<Object> objectResponseEntity = this.client.saveUser(user);
         Assertions.assertNotNull(objectResponseEntity);
         Assertions.assertEquals(HttpStatus.OK, objectResponseEntity.getStatusCode());
-        LinkedHashMap<String, String> userRes = (LinkedHashMap<String, String>) objectResponseEntity.getBody();
+        LinkedHashMap<String, String> userRes = objectMapper.readValue(
+                (byte[]) objectResponseEntity.getBody(), LinkedHashMap.class);
         Assertions.assertEquals(user.getName(), userRes.get("name"));
         Assertions.assertEquals(user.getEmail(), userRes.get("email"));
     }
@@ -107,6 +113,23 @@ class UserClientTest {
         Assertions.assertEquals(HttpStatus.OK, objectResponseEntity.getStatusCode());
     }
 
+    @Test
+    void getUserNotFoundPassesServerResponseThrough() {
+        String error = "{\"error\":\"Пользователь не найден\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONNECTION, "close");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        this.mockRestServiceServer.expect(requestTo("http://localhost:9090/users/2"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers).body(error));
+        ResponseEntity<Object> objectResponseEntity = this.client.getUser(2);
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, objectResponseEntity.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, objectResponseEntity.getHeaders().getContentType());
+        Assertions.assertFalse(objectResponseEntity.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        Assertions.assertFalse(objectResponseEntity.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        Assertions.assertArrayEquals(error.getBytes(StandardCharsets.UTF_8), (byte[]) objectResponseEntity.getBody());
+    }
+
     @Test
     void removeUser() {
         this.mockRestServiceServer.expect(requestTo("http://localhost:9090/users/1"))
@@ -2,13 +2,23 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingExportFormat;
 import ru.practicum.shareit.booking.enums.BookingStatus;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingExporter;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.monitoring.QueryBudget;
+import ru.practicum.shareit.pagination.KeysetCursor;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.List;
 
@@ -21,58 +31,101 @@ import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingExporter bookingExporter;
 
     @PostMapping
-    public Booking add(@RequestHeader(CUSTOM_USER_ID_HEADER) Long bookerId,
-                       @RequestBody @Valid BookingInputDto bookingInputDto) {
+    public BookingOutputDto add(@RequestHeader(CUSTOM_USER_ID_HEADER) Long bookerId,
+                                @RequestBody @Valid BookingInputDto bookingInputDto) {
         bookingInputDto.setStatus(BookingStatus.WAITING);
         if (bookingInputDto.getEnd().isBefore(bookingInputDto.getStart())
                 || bookingInputDto.getStart().equals(bookingInputDto.getEnd())) {
             log.warn("Окончание бронирования не может быть раньше начала.");
             throw new BadRequestException("Окончание бронирования не может быть раньше начала.");
         }
-        Booking booking = bookingService.createBooking(bookingInputDto, bookerId);
-        log.info(booking + " сохранен в базу данных");
+        BookingOutputDto booking = bookingService.createBooking(bookingInputDto, bookerId);
+        log.info("Бронирование создано: bookingId={}, bookerId={}", booking.getId(), bookerId);
         return booking;
     }
 
     @PatchMapping("{bookingId}")
-    public Booking setApprove(@RequestHeader(CUSTOM_USER_ID_HEADER) Long ownerId, @PathVariable Long bookingId,
-                              @RequestParam boolean approved) {
-        log.info("Booking с id " + bookingId + " подтверждён");
+    public BookingOutputDto setApprove(@RequestHeader(CUSTOM_USER_ID_HEADER) Long ownerId,
+                                       @PathVariable Long bookingId, @RequestParam boolean approved) {
+        log.info("Решение по бронированию: bookingId={}, ownerId={}, approved={}", bookingId, ownerId, approved);
         return bookingService.setApproved(ownerId, bookingId, approved);
     }
 
     @GetMapping("{bookingId}")
-    public Booking getBooking(
+    @QueryBudget(1)
+    public BookingOutputDto getBooking(
             @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID, @PathVariable Long bookingId) {
-        Booking booking = bookingService.getBooking(userID, bookingId);
-        log.info(booking + " передано пользователю");
+        BookingOutputDto booking = bookingService.getBooking(userID, bookingId);
+        log.info("Бронирование передано пользователю: bookingId={}, userId={}", bookingId, userID);
         return booking;
     }
 
     @GetMapping()
-    public List<Booking> getAllUserBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
-                                            @RequestParam(required = false, defaultValue = "ALL") String state,
-                                            @RequestParam(required = false, defaultValue = "0") Long from,
-                                            @RequestParam(required = false, defaultValue = "10") Long size) {
+    @QueryBudget(2)
+    public ResponseEntity<List<BookingOutputDto>> getAllUserBookings(
+            @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
         pageableValidation(from, size);
 
-        List<Booking> bookings = bookingService.getAllBookings(userID, state, from, size);
-        log.info(bookings + " переданы пользователю");
-        return bookings;
+        List<BookingOutputDto> bookings = cursor == null
+                ? bookingService.getAllBookings(userID, state, from, size)
+                : bookingService.getAllBookings(userID, state, KeysetCursor.decode(cursor), size);
+        log.info("Бронирования переданы пользователю: userId={}, state={}, count={}", userID, state, bookings.size());
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
-    public List<Booking> getAllOwnersBookings(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
-                                              @RequestParam(required = false, defaultValue = "ALL") String state,
-                                              @RequestParam(required = false, defaultValue = "0") Long from,
-                                              @RequestParam(required = false, defaultValue = "10") Long size) {
+    @QueryBudget(2)
+    public ResponseEntity<List<BookingOutputDto>> getAllOwnersBookings(
+            @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "ALL") String state,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
 
         pageableValidation(from, size);
-        List<Booking> bookings = bookingService.getAllOwnerBookings(userID, state, from, size);
-        log.info(bookings + " переданы владельцу вещи");
-        return bookings;
+        List<BookingOutputDto> bookings = cursor == null
+                ? bookingService.getAllOwnerBookings(userID, state, from, size)
+                : bookingService.getAllOwnerBookings(userID, state, KeysetCursor.decode(cursor), size);
+        log.info("Бронирования переданы владельцу вещи: ownerId={}, state={}, count={}", userID, state,
+                bookings.size());
+        return withNextCursor(bookings, size);
+    }
+
+    /**
+     * Выгрузка пишется в ответ по мере чтения из базы, поэтому ETag для неё не считается.
+     */
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportOwnersBookings(
+            @RequestHeader(CUSTOM_USER_ID_HEADER) Long userID,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            HttpServletRequest request) {
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        StreamingResponseBody body = bookingExporter.export(userID, exportFormat);
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookings." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    private ResponseEntity<List<BookingOutputDto>> withNextCursor(List<BookingOutputDto> bookings, Long size) {
+        if (bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        BookingOutputDto last = bookings.get(bookings.size() - 1);
+        return ResponseEntity.ok()
+                .header(KeysetCursor.NEXT_CURSOR_HEADER, new KeysetCursor(last.getEnd(), last.getId()).encode())
+                .body(bookings);
     }
 
     private void pageableValidation(Long from, Long size) {
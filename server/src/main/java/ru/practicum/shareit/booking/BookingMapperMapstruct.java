@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.shareit.booking.dto.BookingIdAndBookerDto;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
 import ru.practicum.shareit.booking.model.Booking;
 
 @Mapper(componentModel = "spring")
@@ -13,4 +14,10 @@ public interface BookingMapperMapstruct {
 
     @Mapping(target = "bookerId", source = "booking.booker.id")
     BookingIdAndBookerDto bookingToBookingDoIdAndOwnerId(Booking booking);
+
+    @Mapping(target = "itemId", source = "item.id")
+    @Mapping(target = "itemName", source = "item.name")
+    @Mapping(target = "bookerId", source = "booker.id")
+    @Mapping(target = "bookerName", source = "booker.name")
+    BookingOutputDto bookingToBookingOutputDto(Booking booking);
 }
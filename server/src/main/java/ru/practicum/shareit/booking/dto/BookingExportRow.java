@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+/**
+ * Строка выгрузки бронирований владельца. Читается из базы проекцией, без загрузки сущностей.
+ */
+@Data
+@AllArgsConstructor
+public class BookingExportRow {
+    private Long id;
+    private Long itemId;
+    private String itemName;
+    private Long bookerId;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private BookingStatus status;
+}
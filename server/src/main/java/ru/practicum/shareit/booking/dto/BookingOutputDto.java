@@ -1,16 +1,43 @@
 package ru.practicum.shareit.booking.dto;
 
-import lombok.Builder;
-import lombok.Data;
+import java.time.LocalDateTime;
+import lombok.Value;
 import ru.practicum.shareit.booking.enums.BookingStatus;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
 
-@Data
-@Builder
+/**
+ * Бронирование в ответе API. Читается из базы проекцией по плоским колонкам, без загрузки сущностей;
+ * вещь и автор бронирования вкладываются только для формы JSON.
+ * Форма одна для всех эндпоинтов бронирований: id, start, end, status, item {id, name}, booker {id, name}.
+ * Описание, доступность, владелец и запрос вещи, а также email автора в ответ не входят.
+ */
+@Value
 public class BookingOutputDto {
-    private Long id;
-    private Item item;
-    private User booker;
-    private BookingStatus status;
+    Long id;
+    LocalDateTime start;
+    LocalDateTime end;
+    BookingStatus status;
+    ItemShort item;
+    BookerShort booker;
+
+    public BookingOutputDto(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status, Long itemId,
+                            String itemName, Long bookerId, String bookerName) {
+        this.id = id;
+        this.start = start;
+        this.end = end;
+        this.status = status;
+        this.item = new ItemShort(itemId, itemName);
+        this.booker = new BookerShort(bookerId, bookerName);
+    }
+
+    @Value
+    public static class ItemShort {
+        Long id;
+        String name;
+    }
+
+    @Value
+    public static class BookerShort {
+        Long id;
+        String name;
+    }
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.dto;
+
+public interface LastAndNextBookingView {
+
+    Long getItemId();
+
+    Long getLastBookingId();
+
+    Long getLastBookerId();
+
+    Long getNextBookingId();
+
+    Long getNextBookerId();
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.booking.enums;
+
+import java.util.Locale;
+import org.springframework.http.MediaType;
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+public enum BookingExportFormat {
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    BookingExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static BookingExportFormat from(String format) {
+        for (BookingExportFormat value : values()) {
+            if (value.name().equals(format.toUpperCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new BadRequestException("Неизвестный формат выгрузки: " + format);
+    }
+}
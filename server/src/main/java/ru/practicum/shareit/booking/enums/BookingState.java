@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.enums;
+
+import ru.practicum.shareit.exceptions.BadRequestException;
+
+public enum BookingState {
+    ALL,
+    CURRENT,
+    PAST,
+    FUTURE,
+    WAITING,
+    REJECTED;
+
+    public static BookingState from(String state) {
+        for (BookingState value : values()) {
+            if (value.name().equals(state)) {
+                return value;
+            }
+        }
+        throw new BadRequestException("Unknown state: UNSUPPORTED_STATUS");
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Условия выборки бронирований. Незаданные поля не ограничивают выборку.
+ * Интервал rangeStart - rangeEnd отбирает бронирования, пересекающиеся с ним.
+ */
+@Data
+@Builder
+public class BookingFilter {
+    private Long bookerId;
+    private Long ownerId;
+    @Builder.Default
+    private BookingState state = BookingState.ALL;
+    private Collection<BookingStatus> statuses;
+    private Collection<Long> itemIds;
+    private LocalDateTime rangeStart;
+    private LocalDateTime rangeEnd;
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.pagination.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Чтение бронирований через JDBC сразу в {@link BookingOutputDto}. Условия и порядок те же,
+ * что у {@link BookingRepositoryCustom#findBookings}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingJdbcReader {
+
+    private static final String SELECT = "SELECT b.id, b.start_date, b.end_date, b.status, "
+            + "i.id AS item_id, i.name AS item_name, u.id AS booker_id, u.name AS booker_name "
+            + "FROM bookings AS b "
+            + "JOIN items AS i ON i.id = b.item_id "
+            + "JOIN users AS u ON u.id = b.booker_id ";
+
+    private static final RowMapper<BookingOutputDto> ROW_MAPPER = (rs, rowNum) -> new BookingOutputDto(
+            rs.getLong("id"),
+            rs.getObject("start_date", LocalDateTime.class),
+            rs.getObject("end_date", LocalDateTime.class),
+            BookingStatus.valueOf(rs.getString("status")),
+            rs.getLong("item_id"),
+            rs.getString("item_name"),
+            rs.getLong("booker_id"),
+            rs.getString("booker_name"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<BookingOutputDto> findBookings(BookingFilter filter, KeysetCursor cursor, int offset, int limit) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        if (filter.getBookerId() != null) {
+            conditions.add("b.booker_id = :bookerId");
+            params.addValue("bookerId", filter.getBookerId());
+        }
+        if (filter.getOwnerId() != null) {
+            conditions.add("i.owner_id = :ownerId");
+            params.addValue("ownerId", filter.getOwnerId());
+        }
+        if (filter.getItemIds() != null) {
+            conditions.add("b.item_id IN (:itemIds)");
+            params.addValue("itemIds", filter.getItemIds());
+        }
+        if (filter.getStatuses() != null) {
+            conditions.add("b.status IN (:statuses)");
+            params.addValue("statuses", filter.getStatuses().stream()
+                    .map(BookingStatus::name)
+                    .collect(Collectors.toList()));
+        }
+        if (filter.getRangeStart() != null) {
+            conditions.add("b.end_date > :rangeStart");
+            params.addValue("rangeStart", filter.getRangeStart());
+        }
+        if (filter.getRangeEnd() != null) {
+            conditions.add("b.start_date < :rangeEnd");
+            params.addValue("rangeEnd", filter.getRangeEnd());
+        }
+        params.addValue("now", LocalDateTime.now());
+        switch (filter.getState()) {
+            case CURRENT:
+                conditions.add("b.start_date <= :now AND b.end_date >= :now");
+                break;
+            case PAST:
+                conditions.add("b.end_date < :now");
+                break;
+            case FUTURE:
+                conditions.add("b.start_date > :now");
+                break;
+            case WAITING:
+                conditions.add("b.status = 'WAITING'");
+                break;
+            case REJECTED:
+                conditions.add("b.status = 'REJECTED'");
+                break;
+            default:
+                break;
+        }
+        if (cursor != null) {
+            conditions.add("(b.end_date < :cursorEnd OR (b.end_date = :cursorEnd AND b.id < :cursorId))");
+            params.addValue("cursorEnd", cursor.getTimestamp());
+            params.addValue("cursorId", cursor.getId());
+        }
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+        return jdbcTemplate.query(SELECT + where + "ORDER BY b.end_date DESC, b.id DESC LIMIT :limit OFFSET :offset",
+                params, ROW_MAPPER);
+    }
+}
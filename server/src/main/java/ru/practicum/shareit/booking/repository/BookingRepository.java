@@ -1,97 +1,75 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingExportRow;
+import ru.practicum.shareit.booking.dto.BookingInterval;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-@Repository
-public interface BookingRepository extends JpaRepository<Booking, Long>, PagingAndSortingRepository<Booking, Long> {
-
-    @Query("SELECT b " +
-            "FROM Booking b " +
-            "JOIN FETCH b.item i " +
-            "JOIN FETCH b.booker booker " +
-            "WHERE b.id = :bookingId " +
-            "AND (booker.id = :userId OR i.owner.id = :userId)")
-    Optional<Booking> findByIdWithItemAndBooker(@Param("bookingId") Long bookingId, @Param("userId") Long userId);
-
-    Optional<Booking> findBookingByIdAndItemOwnerId(Long bookingId, Long ownerId);
-
-    Optional<List<Booking>> findBookingsByBookerId(Long bookerId, Pageable pageable);
-
-    Optional<List<Booking>> findBookingsByItemOwnerIdOrderByEndDesc(Long ownerId, Pageable sortedByEndDesc);
-
-    Optional<List<Booking>> findBookingsByStatusAndBookerIdOrderByEndDesc(BookingStatus bookingStatus, Long bookerId,
-                                                                          Pageable pageable);
-
-    Optional<List<Booking>> findBookingsByStatusAndItemOwnerIdOrderByEndDesc(BookingStatus bookingStatus,
-                                                                             Long bookerId, Pageable sortedByEndDesc);
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
-    @Query("select b "
-            + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where booker.id = :bookerId and b.start <= current_timestamp  and  b.end >= current_timestamp "
-            + "order by b.end desc ")
-    Optional<List<Booking>> findAllCurrentByUserIdAndSortByDesc(@Param("bookerId") Long bookerId, Pageable pageable);
-
-    @Query("select b "
-            + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where i.owner.id = :ownerId and b.start <= current_timestamp  and  b.end >= current_timestamp "
-            + "order by b.end desc ")
-    Optional<List<Booking>> findAllCurrentByOwnerIdAndSortByDesc(@Param("ownerId") Long ownerId, Pageable sortedByEndDesc);
-
-    @Query("select b "
-            + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where booker.id = :bookerId and b.end < current_timestamp "
-            + "order by b.end desc")
-    Optional<List<Booking>> findAllPastByUserIdAndSortByDesc(@Param("bookerId") Long bookerId, Pageable pageable);
-
-    @Query("select b "
-            + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where i.owner.id = :ownerId and b.end < current_timestamp "
-            + "order by b.end desc")
-    Optional<List<Booking>> findAllPastByOwnerIdAndSortByDesc(@Param("ownerId") Long ownerId, Pageable sortedByEndDesc);
-
-    @Query("select b "
-            + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where booker.id = :bookerId and b.start > current_timestamp "
-            + "order by b.end desc")
-    Optional<List<Booking>> findAllFutureByUserIdAndSortByDesc(@Param("bookerId") Long bookerId, Pageable pageable);
+@Repository
+public interface BookingRepository extends JpaRepository<Booking, Long>, PagingAndSortingRepository<Booking, Long>,
+        BookingRepositoryCustom {
 
-    @Query("select b "
+    @Query("select new ru.practicum.shareit.booking.dto.BookingOutputDto(b.id, b.start, b.end, b.status, "
+            + "i.id, i.name, booker.id, booker.name) "
             + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where i.owner.id = :ownerId and b.start > current_timestamp "
-            + "order by b.end desc")
-    Optional<List<Booking>> findAllFutureByOwnerIdAndSortByDesc(@Param("ownerId") Long ownerId, Pageable sortedByEndDesc);
-
-    Optional<List<Booking>> findBookingsByItemIdOrderByEndDesc(Long itemId);
+            + "join b.item as i "
+            + "join b.booker as booker "
+            + "where b.id = :bookingId "
+            + "and (booker.id = :userId or i.owner.id = :userId)")
+    Optional<BookingOutputDto> findOutputDtoById(@Param("bookingId") Long bookingId, @Param("userId") Long userId);
+
+    /**
+     * Бронирование вместе с вещью и автором: после смены статуса оно отдаётся в ответе.
+     */
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findBookingByIdAndItemOwnerId(Long bookingId, Long ownerId);
 
-    @Query("select b "
+    /**
+     * Последнее и следующее бронирование для каждой вещи, одной строкой на вещь.
+     * Последнее - текущее или завершившееся с самым поздним окончанием, следующее - ближайшее
+     * начинающееся после окончания последнего. Вещи без последнего бронирования в выборку не попадают.
+     */
+    @Query(value = "SELECT t.item_id AS \"itemId\", t.last_id AS \"lastBookingId\", "
+            + "t.last_booker_id AS \"lastBookerId\", t.next_id AS \"nextBookingId\", "
+            + "t.next_booker_id AS \"nextBookerId\" "
+            + "FROM (SELECT l.item_id, l.id AS last_id, l.booker_id AS last_booker_id, "
+            + "n.id AS next_id, n.booker_id AS next_booker_id, "
+            + "ROW_NUMBER() OVER (PARTITION BY l.item_id ORDER BY n.start_date, n.id) AS next_rn "
+            + "FROM (SELECT b.item_id, b.id, b.booker_id, b.end_date, "
+            + "ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.end_date DESC, b.id DESC) AS rn "
+            + "FROM bookings AS b "
+            + "WHERE b.item_id IN (:itemsId) "
+            + "AND ((b.start_date < :now AND b.end_date > :now) OR b.end_date < :now)) AS l "
+            + "LEFT JOIN bookings AS n ON n.item_id = l.item_id AND n.start_date > l.end_date "
+            + "WHERE l.rn = 1) AS t "
+            + "WHERE t.next_rn = 1",
+            nativeQuery = true)
+    List<LastAndNextBookingView> findLastAndNextBookings(@Param("itemsId") List<Long> itemsId,
+                                                         @Param("now") LocalDateTime now);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingInterval(b.id, b.start, b.end) "
             + "from Booking as b "
-            + "join fetch b.booker as booker "
-            + "join fetch b.item as i "
-            + "where i.id in (:itemsId) "
-            + "order by b.end desc")
-    List<Booking> findBookingsByItemId(@Param("itemsId") List<Long> itemsId);
+            + "where b.item.id = :itemId and b.status in (:statuses)")
+    List<BookingInterval> findIntervalsByItemIdAndStatusIn(@Param("itemId") Long itemId,
+                                                           @Param("statuses") Collection<BookingStatus> statuses);
 
     @Query("select b "
             + "from Booking as b "
@@ -101,4 +79,17 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, PagingA
     List<Booking> findBookingByBookerIdAndItemIdAndStatusApproved(@Param("userId") Long bookerId,
                                                                   @Param("itemId") Long itemId);
 
+    /**
+     * Все бронирования вещей владельца, новые первыми. Строки читаются курсором порциями по fetch size,
+     * поэтому поток нужно закрыть внутри транзакции.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new ru.practicum.shareit.booking.dto.BookingExportRow(b.id, i.id, i.name, b.booker.id, "
+            + "b.start, b.end, b.status) "
+            + "from Booking as b "
+            + "join b.item as i "
+            + "where i.owner.id = :ownerId "
+            + "order by b.start desc, b.id desc")
+    Stream<BookingExportRow> streamOwnerBookings(@Param("ownerId") Long ownerId);
+
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.pagination.KeysetCursor;
+
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+
+    /**
+     * Бронирования по фильтру, новые первыми. Возвращает проекцию, сущности в контекст не загружаются.
+     */
+    List<BookingOutputDto> findBookings(BookingFilter filter, KeysetCursor cursor, int offset, int limit);
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.KeysetCursor;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingOutputDto> findBookings(BookingFilter filter, KeysetCursor cursor, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingOutputDto> query = cb.createQuery(BookingOutputDto.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+        Join<Booking, User> booker = booking.join("booker");
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Long> id = booking.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getBookerId() != null) {
+            predicates.add(cb.equal(booker.get("id"), filter.getBookerId()));
+        }
+        if (filter.getOwnerId() != null) {
+            predicates.add(cb.equal(item.get("owner").get("id"), filter.getOwnerId()));
+        }
+        if (filter.getItemIds() != null) {
+            predicates.add(item.get("id").in(filter.getItemIds()));
+        }
+        if (filter.getStatuses() != null) {
+            predicates.add(booking.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getRangeStart() != null) {
+            predicates.add(cb.greaterThan(end, filter.getRangeStart()));
+        }
+        if (filter.getRangeEnd() != null) {
+            predicates.add(cb.lessThan(start, filter.getRangeEnd()));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        switch (filter.getState()) {
+            case CURRENT:
+                predicates.add(cb.lessThanOrEqualTo(start, now));
+                predicates.add(cb.greaterThanOrEqualTo(end, now));
+                break;
+            case PAST:
+                predicates.add(cb.lessThan(end, now));
+                break;
+            case FUTURE:
+                predicates.add(cb.greaterThan(start, now));
+                break;
+            case WAITING:
+                predicates.add(cb.equal(booking.get("status"), BookingStatus.WAITING));
+                break;
+            case REJECTED:
+                predicates.add(cb.equal(booking.get("status"), BookingStatus.REJECTED));
+                break;
+            default:
+                break;
+        }
+        if (cursor != null) {
+            predicates.add(cb.or(cb.lessThan(end, cursor.getTimestamp()),
+                    cb.and(cb.equal(end, cursor.getTimestamp()), cb.lessThan(id, cursor.getId()))));
+        }
+
+        query.select(cb.construct(BookingOutputDto.class, id, start, end, booking.get("status"), item.get("id"),
+                        item.get("name"), booker.get("id"), booker.get("name")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(end), cb.desc(id));
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingExportRow;
+import ru.practicum.shareit.booking.enums.BookingExportFormat;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+/**
+ * Выгрузка всех бронирований вещей владельца в CSV или NDJSON.
+ * Строки читаются курсором и сразу пишутся в ответ, поэтому память не зависит от числа бронирований.
+ * Пользователь проверяется до начала выгрузки, пока статус ответа ещё можно изменить.
+ */
+@Component
+@Slf4j
+public class BookingExporter {
+
+    private static final String CSV_HEADER = "id,itemId,itemName,bookerId,start,end,status";
+
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public BookingExporter(BookingRepository bookingRepository, UserRepository userRepository,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(BookingExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public StreamingResponseBody export(Long ownerId, BookingExportFormat format) {
+        if (userRepository.findById(ownerId).isEmpty()) {
+            throw new NotFoundException("Пользователь не найден");
+        }
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<BookingExportRow> rows = bookingRepository.streamOwnerBookings(ownerId)) {
+                long count = format == BookingExportFormat.CSV ? writeCsv(rows.iterator(), out)
+                        : writeNdjson(rows.iterator(), out);
+                log.info("Выгружено бронирований владельца {}: {}", ownerId, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeNdjson(Iterator<BookingExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            rowWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<BookingExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        while (rows.hasNext()) {
+            BookingExportRow row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getItemId()));
+            writer.write(',');
+            writer.write(csvField(row.getItemName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getBookerId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getStart()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getEnd()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getStatus()));
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,289 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingInterval;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.ConflictException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Индекс интервалов ожидающих и одобренных бронирований по вещам.
+ * Интервалы вещи загружаются из базы при первом обращении и хранятся отсортированными по началу
+ * вместе с префиксным максимумом окончаний, поэтому проверка пересечения [start, end) выполняется за O(log n).
+ * Проверка и сохранение бронирования одной вещи выполняются под блокировкой этой вещи.
+ * Интервалы вещи, к которой не обращались {@code shareit.booking-intervals.expire-after-access},
+ * выбрасываются и при следующем обращении загружаются заново; срок должен быть намного больше
+ * длительности транзакции бронирования, иначе блокировка вещи может смениться посреди неё.
+ */
+@Component
+@Slf4j
+public class BookingIntervalIndex {
+
+    private static final Set<BookingStatus> BLOCKING_STATUSES = EnumSet.of(BookingStatus.WAITING,
+            BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, ItemIntervals> itemsIntervals;
+
+    public BookingIntervalIndex(BookingRepository bookingRepository,
+            @Value("${shareit.booking-intervals.expire-after-access}") Duration expireAfterAccess) {
+        this.bookingRepository = bookingRepository;
+        this.itemsIntervals = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public Booking reserve(Booking booking, UnaryOperator<Booking> save) {
+        Long itemId = booking.getItem().getId();
+        ItemIntervals intervals = itemsIntervals.get(itemId, id -> new ItemIntervals());
+        synchronized (intervals) {
+            load(itemId, intervals);
+            if (intervals.overlaps(booking.getStart(), booking.getEnd())) {
+                throw new ConflictException("Вещь уже забронирована на выбранные даты.");
+            }
+            Booking saved = save.apply(booking);
+            if (BLOCKING_STATUSES.contains(saved.getStatus())) {
+                addUncommitted(itemId, intervals, saved.getId(), saved.getStart(), saved.getEnd());
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * Учитывает новый статус бронирования. Бронирование, вернувшееся в блокирующий статус, проверяется
+     * на пересечение так же, как новое: даты могли занять, пока оно было отклонено или отменено.
+     */
+    public void statusChanged(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        if (BLOCKING_STATUSES.contains(booking.getStatus())) {
+            ItemIntervals intervals = itemsIntervals.getIfPresent(itemId);
+            if (intervals != null) {
+                synchronized (intervals) {
+                    if (intervals.loaded && !intervals.contains(booking.getId())) {
+                        if (intervals.overlaps(booking.getStart(), booking.getEnd())) {
+                            throw new ConflictException("Вещь уже забронирована на выбранные даты.");
+                        }
+                        addUncommitted(itemId, intervals, booking.getId(), booking.getStart(), booking.getEnd());
+                    }
+                }
+            }
+        } else {
+            afterCommit(() -> remove(itemId, booking.getId()));
+        }
+    }
+
+    public boolean overlaps(Long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = itemsIntervals.get(itemId, id -> new ItemIntervals());
+        synchronized (intervals) {
+            load(itemId, intervals);
+            return intervals.overlaps(start, end);
+        }
+    }
+
+    /**
+     * Перечитывает интервалы вещи из базы. Интервалы бронирований, чьи транзакции ещё не завершились,
+     * в базе не видны и добавляются к прочитанным, поэтому перестроение можно выполнять одновременно
+     * с бронированием.
+     */
+    public void rebuild(Long itemId) {
+        ItemIntervals intervals = itemsIntervals.get(itemId, id -> new ItemIntervals());
+        synchronized (intervals) {
+            intervals.loaded = false;
+            load(itemId, intervals);
+        }
+    }
+
+    /**
+     * Помечает интервалы всех вещей устаревшими; они перечитываются при следующем обращении
+     * так же, как в {@link #rebuild(Long)}.
+     */
+    public void invalidateAll() {
+        itemsIntervals.asMap().values().forEach(intervals -> {
+            synchronized (intervals) {
+                intervals.loaded = false;
+            }
+        });
+    }
+
+    private void remove(Long itemId, Long bookingId) {
+        ItemIntervals intervals = itemsIntervals.getIfPresent(itemId);
+        if (intervals != null) {
+            synchronized (intervals) {
+                intervals.remove(bookingId);
+            }
+        }
+    }
+
+    private void load(Long itemId, ItemIntervals intervals) {
+        if (intervals.loaded) {
+            return;
+        }
+        List<BookingInterval> bookingIntervals = bookingRepository.findIntervalsByItemIdAndStatusIn(itemId,
+                BLOCKING_STATUSES);
+        intervals.load(bookingIntervals);
+        for (BookingInterval pending : intervals.uncommitted.values()) {
+            if (!intervals.contains(pending.getId())) {
+                intervals.add(pending.getId(), pending.getStart(), pending.getEnd());
+            }
+        }
+        log.info("Интервалы бронирований вещи {} загружены в индекс: {}", itemId, bookingIntervals.size());
+    }
+
+    /**
+     * Добавляет интервал бронирования, сохранённого в текущей транзакции. До её завершения интервал
+     * хранится и среди незафиксированных, чтобы перечитывание из базы его не потеряло; при откате
+     * интервал удаляется.
+     */
+    private void addUncommitted(Long itemId, ItemIntervals intervals, Long bookingId, LocalDateTime start,
+            LocalDateTime end) {
+        intervals.add(bookingId, start, end);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        intervals.uncommitted.put(bookingId, new BookingInterval(bookingId, start, end));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (intervals) {
+                    intervals.uncommitted.remove(bookingId);
+                }
+                if (status != STATUS_COMMITTED) {
+                    remove(itemId, bookingId);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class ItemIntervals {
+        private final Map<Long, BookingInterval> uncommitted = new HashMap<>();
+        private boolean loaded;
+        private int size;
+        private long[] ids = new long[0];
+        private LocalDateTime[] starts = new LocalDateTime[0];
+        private LocalDateTime[] ends = new LocalDateTime[0];
+        private LocalDateTime[] maxEnds = new LocalDateTime[0];
+
+        private void load(List<BookingInterval> bookingIntervals) {
+            BookingInterval[] sorted = bookingIntervals.toArray(new BookingInterval[0]);
+            Arrays.sort(sorted, Comparator.comparing(BookingInterval::getStart));
+            size = 0;
+            ensureCapacity(sorted.length);
+            for (BookingInterval interval : sorted) {
+                ids[size] = interval.getId();
+                starts[size] = interval.getStart();
+                ends[size] = interval.getEnd();
+                size++;
+            }
+            updateMaxEnds(0);
+            loaded = true;
+        }
+
+        private boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            int startedBeforeEnd = firstStartNotBefore(end);
+            return startedBeforeEnd > 0 && maxEnds[startedBeforeEnd - 1].isAfter(start);
+        }
+
+        private boolean contains(Long id) {
+            return indexOf(id) >= 0;
+        }
+
+        private void add(Long id, LocalDateTime start, LocalDateTime end) {
+            int position = firstStartNotBefore(start);
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(starts, position, starts, position + 1, size - position);
+            System.arraycopy(ends, position, ends, position + 1, size - position);
+            ids[position] = id;
+            starts[position] = start;
+            ends[position] = end;
+            size++;
+            updateMaxEnds(position);
+        }
+
+        private void remove(Long id) {
+            int position = indexOf(id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(starts, position + 1, starts, position, size - position - 1);
+            System.arraycopy(ends, position + 1, ends, position, size - position - 1);
+            size--;
+            starts[size] = null;
+            ends[size] = null;
+            maxEnds[size] = null;
+            updateMaxEnds(position);
+        }
+
+        private int firstStartNotBefore(LocalDateTime time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle].isBefore(time)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int indexOf(Long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void updateMaxEnds(int from) {
+            for (int i = from; i < size; i++) {
+                maxEnds[i] = i == 0 || ends[i].isAfter(maxEnds[i - 1]) ? ends[i] : maxEnds[i - 1];
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            starts = Arrays.copyOf(starts, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+            maxEnds = Arrays.copyOf(maxEnds, newCapacity);
+        }
+    }
+}
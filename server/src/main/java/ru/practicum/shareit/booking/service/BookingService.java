@@ -1,19 +1,24 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingInputDto;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.pagination.KeysetCursor;
 
 import java.util.List;
 
 public interface BookingService {
 
-    Booking createBooking(BookingInputDto bookingInputDto, Long userId);
+    BookingOutputDto createBooking(BookingInputDto bookingInputDto, Long userId);
 
-    Booking setApproved(Long ownerId, Long bookingId, boolean approved);
+    BookingOutputDto setApproved(Long ownerId, Long bookingId, boolean approved);
 
-    Booking getBooking(Long id, Long bookingId);
+    BookingOutputDto getBooking(Long id, Long bookingId);
 
-    List<Booking> getAllBookings(Long userID, String state, Long from, Long size);
+    List<BookingOutputDto> getAllBookings(Long userID, String state, Long from, Long size);
 
-    List<Booking> getAllOwnerBookings(Long userID, String state, Long from, Long size);
+    List<BookingOutputDto> getAllOwnerBookings(Long userID, String state, Long from, Long size);
+
+    List<BookingOutputDto> getAllBookings(Long userID, String state, KeysetCursor cursor, Long size);
+
+    List<BookingOutputDto> getAllOwnerBookings(Long userID, String state, KeysetCursor cursor, Long size);
 }
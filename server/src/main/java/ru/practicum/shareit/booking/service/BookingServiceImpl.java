@@ -3,20 +3,25 @@ package ru.practicum.shareit.booking.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.factory.Mappers;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingMapperMapstruct;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingFilter;
+import ru.practicum.shareit.booking.repository.BookingJdbcReader;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.configuration.ReadPaths;
+import ru.practicum.shareit.configuration.ReadPaths.ReadPath;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.logging.LogMarkers;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -32,10 +37,13 @@ public class BookingServiceImpl implements BookingService {
     private final BookingMapperMapstruct mapper = Mappers.getMapper(BookingMapperMapstruct.class);
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookingJdbcReader bookingJdbcReader;
+    private final ReadPaths readPaths;
 
     @Override
     @Transactional
-    public Booking createBooking(BookingInputDto bookingInputDto, Long userId) {
+    public BookingOutputDto createBooking(BookingInputDto bookingInputDto, Long userId) {
         Optional<Item> item = itemRepository.findById(bookingInputDto.getItemId());
 
         if (!item.isPresent()) {
@@ -53,15 +61,18 @@ public class BookingServiceImpl implements BookingService {
             throw new NotFoundException("Пользователь посылающий запрос не найден.");
         }
         Booking booking = mapper.bookingDtoToBooking(bookingInputDto);
-        booking.setBooker(user.get());
-        booking.setItem(item.get());
-        log.info(booking + "\n" + "добавлен в базу данных.");
-        return bookingRepository.save(booking);
+        booking.setBooker(userRepository.getReferenceById(userId));
+        booking.setItem(itemRepository.getReferenceById(bookingInputDto.getItemId()));
+        booking = bookingIntervalIndex.reserve(booking, bookingRepository::save);
+        log.info("Бронирование добавлено: bookingId={}, itemId={}, bookerId={}", booking.getId(),
+                bookingInputDto.getItemId(), userId);
+        return new BookingOutputDto(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                item.get().getId(), item.get().getName(), userId, user.get().getName());
     }
 
     @Override
     @Transactional
-    public Booking setApproved(Long ownerId, Long bookingId, boolean approved) {
+    public BookingOutputDto setApproved(Long ownerId, Long bookingId, boolean approved) {
         Optional<Booking> optionalBooking = bookingRepository.findBookingByIdAndItemOwnerId(bookingId, ownerId);
         if (!optionalBooking.isPresent()) {
             throw new NotFoundException("Такого бронирования не существует.");
@@ -70,6 +81,9 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus().equals(BookingStatus.APPROVED)) {
             throw new BadRequestException("Бронирование уже одобрено.");
         }
+        if (!booking.getStatus().equals(BookingStatus.WAITING)) {
+            throw new BadRequestException("Решение по бронированию уже принято.");
+        }
 
         if (approved) {
             booking.setStatus(BookingStatus.APPROVED);
@@ -77,14 +91,16 @@ public class BookingServiceImpl implements BookingService {
             booking.setStatus(BookingStatus.REJECTED);
         }
         booking = bookingRepository.save(booking);
-        log.info(booking + "\n" + "APPROVED");
-        return booking;
+        bookingIntervalIndex.statusChanged(booking);
+        log.info("Статус бронирования изменён: bookingId={}, ownerId={}, status={}", booking.getId(), ownerId,
+                booking.getStatus());
+        return mapper.bookingToBookingOutputDto(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Booking getBooking(Long userId, Long bookingId) {
-        Optional<Booking> optionalBooking = bookingRepository.findByIdWithItemAndBooker(bookingId, userId);
+    public BookingOutputDto getBooking(Long userId, Long bookingId) {
+        Optional<BookingOutputDto> optionalBooking = bookingRepository.findOutputDtoById(bookingId, userId);
         if (!optionalBooking.isPresent()) {
             throw new NotFoundException("Такого бронирования не существует.");
 
@@ -94,95 +110,45 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Booking> getAllBookings(Long userID, String state, Long from, Long size) {
-        Optional<List<Booking>> bookingList;
-        Optional<User> user = userRepository.findById(userID);
+    public List<BookingOutputDto> getAllBookings(Long userID, String state, Long from, Long size) {
+        return findBookings(userID, false, state, null, from / size * size, size);
+    }
 
-        if (!user.isPresent()) {
-            throw new NotFoundException("Пользователь не найден");
-        }
-        PageRequest sortedByEndDesc = PageRequest.of(from.intValue() > 0 ? from.intValue() / size.intValue() : 0,
-                size.intValue(), Sort.by("end").descending());
-
-        switch (state) {
-            case "ALL":
-                bookingList = bookingRepository.findBookingsByBookerId(userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "CURRENT":
-                bookingList = bookingRepository.findAllCurrentByUserIdAndSortByDesc(userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "PAST":
-                bookingList = bookingRepository.findAllPastByUserIdAndSortByDesc(userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "FUTURE":
-                bookingList = bookingRepository.findAllFutureByUserIdAndSortByDesc(userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "WAITING":
-                bookingList = bookingRepository.findBookingsByStatusAndBookerIdOrderByEndDesc(BookingStatus.WAITING,
-                        userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "REJECTED":
-                bookingList = bookingRepository.findBookingsByStatusAndBookerIdOrderByEndDesc(BookingStatus.REJECTED,
-                        userID, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            default:
-                throw new BadRequestException("Unknown state: UNSUPPORTED_STATUS");
-        }
-        if (!bookingList.isPresent()) {
-            throw new NotFoundException("Бронирования не найдены");
-        }
-        return bookingList.get();
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingOutputDto> getAllOwnerBookings(Long ownerId, String state, Long from, Long size) {
+        return findBookings(ownerId, true, state, null, from / size * size, size);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Booking> getAllOwnerBookings(Long ownerId, String state, Long from, Long size) {
-        Optional<List<Booking>> bookingList;
-        Optional<User> user = userRepository.findById(ownerId);
-        Pageable sortedByEndDesc = PageRequest.of(from.intValue(), size.intValue(), Sort.by("end").descending());
-        if (!user.isPresent()) {
+    public List<BookingOutputDto> getAllBookings(Long userID, String state, KeysetCursor cursor, Long size) {
+        return findBookings(userID, false, state, cursor, 0L, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingOutputDto> getAllOwnerBookings(Long ownerId, String state, KeysetCursor cursor, Long size) {
+        return findBookings(ownerId, true, state, cursor, 0L, size);
+    }
+
+    private List<BookingOutputDto> findBookings(Long userId, boolean owner, String state, KeysetCursor cursor, Long offset,
+                                                Long size) {
+        if (userRepository.findById(userId).isEmpty()) {
             throw new NotFoundException("Пользователь не найден");
         }
-        switch (state) {
-            case "ALL":
-                bookingList = bookingRepository.findBookingsByItemOwnerIdOrderByEndDesc(ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "CURRENT":
-                bookingList = bookingRepository.findAllCurrentByOwnerIdAndSortByDesc(ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "PAST":
-                bookingList = bookingRepository.findAllPastByOwnerIdAndSortByDesc(ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "FUTURE":
-                bookingList = bookingRepository.findAllFutureByOwnerIdAndSortByDesc(ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "WAITING":
-                bookingList = bookingRepository.findBookingsByStatusAndItemOwnerIdOrderByEndDesc(BookingStatus.WAITING,
-                        ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            case "REJECTED":
-                bookingList = bookingRepository.findBookingsByStatusAndItemOwnerIdOrderByEndDesc(BookingStatus.REJECTED,
-                        ownerId, sortedByEndDesc);
-                log.info(bookingList + " получен из базы данных.");
-                break;
-            default:
-                throw new BadRequestException("Unknown state: UNSUPPORTED_STATUS");
-        }
-        if (!bookingList.isPresent()) {
-            throw new NotFoundException("Бронирования не найдены");
-        }
-
-        return bookingList.get();
+        BookingFilter filter = BookingFilter.builder()
+                .bookerId(owner ? null : userId)
+                .ownerId(owner ? userId : null)
+                .state(BookingState.from(state))
+                .build();
+        ReadPath readPath = owner ? readPaths.getOwnerBookings() : readPaths.getBookings();
+        List<BookingOutputDto> bookings = readPath == ReadPath.JDBC
+                ? bookingJdbcReader.findBookings(filter, cursor, offset.intValue(), size.intValue())
+                : bookingRepository.findBookings(filter, cursor, offset.intValue(), size.intValue());
+        log.info("Бронирования получены: userId={}, owner={}, state={}, count={}", userId, owner, state,
+                bookings.size());
+        log.debug(LogMarkers.PAYLOAD, "Бронирования пользователя {}: {}", userId, bookings);
+        return bookings;
     }
 }
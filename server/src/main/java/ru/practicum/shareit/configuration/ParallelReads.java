@@ -0,0 +1,62 @@
+package ru.practicum.shareit.configuration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.monitoring.QueryStats;
+
+/**
+ * Параллельное выполнение независимых запросов чтения. Каждый запрос идёт в своей read-only транзакции
+ * и на своём соединении, поэтому вызывающий код не должен держать открытую транзакцию.
+ * Пул ограничен {@code shareit.parallel-reads.pool-size} потоками и должен быть меньше пула соединений;
+ * при заполненной очереди запрос выполняется в вызывающем потоке.
+ */
+@Component
+public class ParallelReads implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ParallelReads(PlatformTransactionManager transactionManager,
+            @Value("${shareit.parallel-reads.pool-size}") int poolSize) {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 16);
+        executor.setThreadNamePrefix("parallel-read-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QueryStats::propagate);
+        executor.initialize();
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+    }
+
+    /**
+     * Результат запроса; исключение запроса пробрасывается как есть.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
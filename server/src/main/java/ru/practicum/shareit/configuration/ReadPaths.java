@@ -0,0 +1,34 @@
+package ru.practicum.shareit.configuration;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Способ чтения списков по ресурсам, задаётся свойствами {@code shareit.read-path.*}.
+ * JDBC читает строки сразу в DTO, минуя контекст персистентности, снимки для dirty checking и прокси.
+ */
+@Component
+@Getter
+public class ReadPaths {
+
+    public enum ReadPath {
+        JPA,
+        JDBC
+    }
+
+    private final ReadPath bookings;
+    private final ReadPath ownerBookings;
+    private final ReadPath otherRequests;
+    private final ReadPath users;
+
+    public ReadPaths(@Value("${shareit.read-path.bookings}") ReadPath bookings,
+            @Value("${shareit.read-path.owner-bookings}") ReadPath ownerBookings,
+            @Value("${shareit.read-path.other-requests}") ReadPath otherRequests,
+            @Value("${shareit.read-path.users}") ReadPath users) {
+        this.bookings = bookings;
+        this.ownerBookings = ownerBookings;
+        this.otherRequests = otherRequests;
+        this.users = users;
+    }
+}
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item;
 
+import java.io.IOException;
 import java.util.List;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -17,7 +20,10 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportResult;
+import ru.practicum.shareit.item.services.ItemBulkImporter;
 import ru.practicum.shareit.item.services.ItemService;
+import ru.practicum.shareit.monitoring.QueryBudget;
 
 @RestController
 @RequestMapping("/items")
@@ -25,14 +31,17 @@ import ru.practicum.shareit.item.services.ItemService;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemBulkImporter itemBulkImporter;
     public static final String CUSTOM_USER_ID_HEADER = "X-Sharer-User-Id";
 
     @GetMapping
+    @QueryBudget(2)
     public List<ItemDtoWithBooking> getUserItems(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId) {
         return itemService.getUserItems(userId);
     }
 
     @GetMapping("/{itemId}")
+    @QueryBudget(3)
     public ItemDtoWithBooking getItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, @PathVariable long itemId) {
         return itemService.getItem(userId, itemId);
     }
@@ -42,6 +51,12 @@ public class ItemController {
         return itemService.addItem(userId, itemDTO);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ItemImportResult addAll(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, HttpServletRequest request)
+            throws IOException {
+        return itemBulkImporter.importItems(userId, request.getInputStream());
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDTO update(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, @RequestBody ItemDTO itemDTO,
             @PathVariable long itemId) {
@@ -57,8 +72,16 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDTO> searchItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, @RequestParam String text) {
-        return itemService.searchItem(text);
+    public List<ItemDTO> searchItem(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "0") Long from,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        return itemService.searchItem(text, from, size);
+    }
+
+    @GetMapping("/search/suggest")
+    public List<String> suggest(@RequestHeader(CUSTOM_USER_ID_HEADER) long userId, @RequestParam String text,
+            @RequestParam(required = false, defaultValue = "10") Long size) {
+        return itemService.suggest(text, size);
     }
 
     @PostMapping("/{itemId}/comment")
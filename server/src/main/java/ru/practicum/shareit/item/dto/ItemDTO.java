@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.dto;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,8 +15,10 @@ import lombok.NoArgsConstructor;
 public class ItemDTO {
     private Long id;
     @NotBlank(message = "Название вещи не может быть пустым")
+    @Size(max = 300, message = "Название вещи не может быть длиннее 300 символов")
     private  String name;
     @NotBlank(message = "Описание вещи не может быть пустым")
+    @Size(max = 500, message = "Описание вещи не может быть длиннее 500 символов")
     private  String description;
     @NotNull(message = "Необходимо указать доступна ли вещь в аренду на данный момент")
     private  Boolean available;
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Итог загрузки вещей из NDJSON: число сохранённых вещей и ошибки по номерам строк.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportResult {
+    private int imported;
+    private List<LineError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String error;
+    }
+}
@@ -1,14 +1,21 @@
 package ru.practicum.shareit.item.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.model.Comment;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("select c "
+    @Query("select new ru.practicum.shareit.item.dto.CommentDto(c.id, c.text, a.name) "
             + "from Comment as c "
+            + "join c.author as a "
             + "where c.item.id = ?1")
-    List<Comment> findAllByItemId(Long itemId);
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<CommentDto> findCommentDtosByItemId(Long itemId);
 }
@@ -1,14 +1,19 @@
 package ru.practicum.shareit.item.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
@@ -20,19 +25,25 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             + "join fetch i.owner as o where i.id = :itemId and o.id = :ownerId")
     Item findItemByIdAndOwnerId(@Param("itemId") Long itemId, @Param("ownerId") Long ownerId);
 
-    @Query("select i "
+    @Query("select new ru.practicum.shareit.item.dto.ItemDTO(i.id, i.name, i.description, i.available, r.id) "
             + "from Item as i "
-            + "where lower(i.name) like lower(concat('%' , :search, '%')) "
-            + "or lower(i.description) like  lower(concat('%', :search,'%')) and i.available != false ")
-    Optional<List<Item>> search(@Param("search") String searchString);
+            + "left join i.request as r "
+            + "where i.available = true")
+    List<ItemDTO> findSearchDocuments();
 
-    Optional<Item> getItemByIdAndOwnerId(Long itemId, Long userId);
+    @Query("select new ru.practicum.shareit.item.dto.ItemDTO(i.id, i.name, i.description, i.available, r.id) "
+            + "from Item as i "
+            + "left join i.request as r "
+            + "where i.id in :itemIds")
+    List<ItemDTO> findSearchDocuments(@Param("itemIds") Collection<Long> itemIds);
 
     void deleteByIdAndOwnerId(Long itemId, Long userId);
 
     @Query("select new ru.practicum.shareit.item.dto.ItemForRequestDto(i.id, i.name, i.description, i.available" +
             ", i.request.id) " +
             "from Item as i " +
-            "where i.request.id IN :requestsId")
+            "where i.request.id IN :requestsId " +
+            "order by i.id")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ItemForRequestDto> findAllByRequests(@Param("requestsId") List<Long> requestsId);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Изменение одной или нескольких вещей. Пакетная загрузка публикует одно событие на пачку,
+ * чтобы индексы перечитали её одним запросом.
+ */
+@Data
+public class ItemChangedEvent {
+    private final List<Long> itemIds;
+
+    public ItemChangedEvent(Long itemId) {
+        this.itemIds = List.of(itemId);
+    }
+
+    public ItemChangedEvent(Collection<Long> itemIds) {
+        this.itemIds = List.copyOf(itemIds);
+    }
+}
@@ -0,0 +1,307 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Триграммный инвертированный индекс доступных вещей по названию и описанию.
+ * Строится из базы при первом поиске и обновляется после фиксации транзакций, изменивших вещь.
+ * Совпадения проверяются как вхождение подстроки, поэтому выдача совпадает с поиском через like;
+ * запросы короче трёх символов обрабатываются перебором.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int NAME_PREFIX_SCORE = 3;
+    private static final int NAME_SCORE = 2;
+    private static final int DESCRIPTION_SCORE = 1;
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object updateLock = new Object();
+    private Index index = new Index(List.of());
+    private volatile boolean loaded;
+
+    public List<ItemDTO> search(String text, int from, int size) {
+        String query = text.trim().toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = query.length() < GRAM ? index.scan(query) : index.lookup(query);
+            hits.sort(Comparator.comparingInt((Hit hit) -> hit.score).reversed()
+                    .thenComparingLong(hit -> hit.document.item.getId()));
+            List<ItemDTO> page = new ArrayList<>();
+            for (int i = from; i < hits.size() && page.size() < size; i++) {
+                page.add(copy(hits.get(i).document.item));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Строит индекс из базы без блокировки поиска и подменяет им текущий.
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            Index rebuilt = new Index(itemRepository.findSearchDocuments());
+            swap(rebuilt);
+            log.info("Поисковый индекс вещей построен: {} вещей, {} триграмм", rebuilt.documentNumbers.size(),
+                    rebuilt.postings.size());
+        }
+    }
+
+    void rebuild(Collection<ItemDTO> items) {
+        synchronized (updateLock) {
+            swap(new Index(items));
+        }
+    }
+
+    /**
+     * Изменения применяются последовательно: запрос к базе выполняется до захвата блокировки записи,
+     * поиск ждёт только изменения самого индекса.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        synchronized (updateLock) {
+            if (!loaded) {
+                return;
+            }
+            List<ItemDTO> items = itemRepository.findSearchDocuments(event.getItemIds());
+            lock.writeLock().lock();
+            try {
+                event.getItemIds().forEach(index::remove);
+                for (ItemDTO item : items) {
+                    if (Boolean.TRUE.equals(item.getAvailable())) {
+                        index.add(item);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (index.needsCompaction()) {
+                swap(index.compacted());
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (updateLock) {
+            if (!loaded) {
+                rebuild();
+            }
+        }
+    }
+
+    private void swap(Index rebuilt) {
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int intersect(int[] candidates, int candidatesCount, Postings list) {
+        int count = 0;
+        int position = 0;
+        for (int i = 0; i < candidatesCount; i++) {
+            position = list.seek(candidates[i], position);
+            if (position == list.size) {
+                break;
+            }
+            if (list.documents[position] == candidates[i]) {
+                candidates[count++] = candidates[i];
+            }
+        }
+        return count;
+    }
+
+    private static void addHit(List<Hit> hits, Document document, String query) {
+        if (document == null) {
+            return;
+        }
+        int score;
+        if (document.name.startsWith(query)) {
+            score = NAME_PREFIX_SCORE;
+        } else if (document.name.contains(query)) {
+            score = NAME_SCORE;
+        } else if (document.description.contains(query)) {
+            score = DESCRIPTION_SCORE;
+        } else {
+            return;
+        }
+        hits.add(new Hit(document, score));
+    }
+
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static ItemDTO copy(ItemDTO item) {
+        return new ItemDTO(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                item.getRequestId());
+    }
+
+    /**
+     * Состояние индекса. Изменяется только под блокировкой записи; новое состояние строится отдельно
+     * и подменяет текущее целиком.
+     */
+    private static final class Index {
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> documentNumbers = new HashMap<>();
+        private Document[] documents;
+        private int documentsCount;
+        private int removedCount;
+
+        private Index(Collection<ItemDTO> items) {
+            documents = new Document[Math.max(16, items.size())];
+            for (ItemDTO item : items) {
+                if (Boolean.TRUE.equals(item.getAvailable())) {
+                    add(item);
+                }
+            }
+        }
+
+        private List<Hit> scan(String query) {
+            List<Hit> hits = new ArrayList<>();
+            for (int i = 0; i < documentsCount; i++) {
+                addHit(hits, documents[i], query);
+            }
+            return hits;
+        }
+
+        private List<Hit> lookup(String query) {
+            Set<Long> grams = grams(query);
+            Postings[] lists = new Postings[grams.size()];
+            int position = 0;
+            for (Long gram : grams) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return new ArrayList<>();
+                }
+                lists[position++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            int[] candidates = Arrays.copyOf(lists[0].documents, lists[0].size);
+            int candidatesCount = candidates.length;
+            for (int i = 1; i < lists.length && candidatesCount > 0; i++) {
+                candidatesCount = intersect(candidates, candidatesCount, lists[i]);
+            }
+            List<Hit> hits = new ArrayList<>();
+            for (int i = 0; i < candidatesCount; i++) {
+                addHit(hits, documents[candidates[i]], query);
+            }
+            return hits;
+        }
+
+        private boolean needsCompaction() {
+            return removedCount > documentsCount / 2;
+        }
+
+        private Index compacted() {
+            List<ItemDTO> items = new ArrayList<>(documentNumbers.size());
+            for (int i = 0; i < documentsCount; i++) {
+                if (documents[i] != null) {
+                    items.add(documents[i].item);
+                }
+            }
+            return new Index(items);
+        }
+
+        private void add(ItemDTO item) {
+            if (documentsCount == documents.length) {
+                documents = Arrays.copyOf(documents, documents.length * 2);
+            }
+            int number = documentsCount++;
+            Document document = new Document(copy(item));
+            documents[number] = document;
+            documentNumbers.put(item.getId(), number);
+            Set<Long> grams = grams(document.name);
+            grams.addAll(grams(document.description));
+            for (Long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(number);
+            }
+        }
+
+        private void remove(Long itemId) {
+            Integer number = documentNumbers.remove(itemId);
+            if (number != null) {
+                documents[number] = null;
+                removedCount++;
+            }
+        }
+    }
+
+    private static final class Document {
+        private final ItemDTO item;
+        private final String name;
+        private final String description;
+
+        private Document(ItemDTO item) {
+            this.item = item;
+            this.name = item.getName().toLowerCase(Locale.ROOT);
+            this.description = item.getDescription().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Hit {
+        private final Document document;
+        private final int score;
+
+        private Hit(Document document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int size;
+
+        private void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        private int seek(int document, int from) {
+            int position = Arrays.binarySearch(documents, from, size, document);
+            return position >= 0 ? position : -position - 1;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Префиксное дерево слов из названий доступных вещей для подсказок при наборе запроса.
+ * В каждом узле хранится готовый список самых частых слов поддерева, поэтому подсказка
+ * сводится к спуску по префиксу. Дерево строится при первом запросе и обновляется после
+ * фиксации транзакций, изменивших вещь.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Suggestion> ORDER = Comparator.comparingInt((Suggestion s) -> s.count).reversed()
+            .thenComparing(s -> s.word);
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object updateLock = new Object();
+    private Trie trie = new Trie(List.of());
+    private volatile boolean loaded;
+
+    /**
+     * Дополняет последнее слово запроса. Предшествующие слова возвращаются без изменений.
+     */
+    public List<String> suggest(String text, int size) {
+        int wordStart = lastWordStart(text);
+        String prefix = text.substring(wordStart).toLowerCase(Locale.ROOT);
+        List<String> suggestions = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            return suggestions;
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Node node = trie.root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return suggestions;
+            }
+            String head = text.substring(0, wordStart);
+            Suggestion[] top = node.top;
+            for (int i = 0; i < top.length && i < size; i++) {
+                suggestions.add(head + top[i].word);
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Строит дерево из базы без блокировки подсказок и подменяет им текущее.
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            Trie rebuilt = new Trie(itemRepository.findSearchDocuments());
+            swap(rebuilt);
+            log.info("Индекс подсказок построен: {} вещей", rebuilt.itemWords.size());
+        }
+    }
+
+    void rebuild(Collection<ItemDTO> items) {
+        synchronized (updateLock) {
+            swap(new Trie(items));
+        }
+    }
+
+    /**
+     * Изменения применяются последовательно: запрос к базе выполняется до захвата блокировки записи,
+     * подсказки ждут только изменения самого дерева.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        synchronized (updateLock) {
+            if (!loaded) {
+                return;
+            }
+            Map<Long, ItemDTO> items = new HashMap<>();
+            for (ItemDTO item : itemRepository.findSearchDocuments(event.getItemIds())) {
+                items.put(item.getId(), item);
+            }
+            lock.writeLock().lock();
+            try {
+                for (Long itemId : event.getItemIds()) {
+                    trie.reindex(itemId, items.get(itemId));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (updateLock) {
+            if (!loaded) {
+                rebuild();
+            }
+        }
+    }
+
+    private void swap(Trie rebuilt) {
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void computeTop(Node node) {
+        for (Node child : node.children.values()) {
+            computeTop(child);
+        }
+        node.top = top(node);
+    }
+
+    private static Suggestion[] top(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(new Suggestion(node.word, node.count));
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(List.of(child.top));
+        }
+        candidates.sort(ORDER);
+        return candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())).toArray(new Suggestion[0]);
+    }
+
+    private static Set<String> words(String name) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : SEPARATOR.split(name.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static int lastWordStart(String query) {
+        int start = query.length();
+        while (start > 0) {
+            int codePoint = query.codePointBefore(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                break;
+            }
+            start -= Character.charCount(codePoint);
+        }
+        return start;
+    }
+
+    /**
+     * Дерево вместе со словами каждой вещи. Изменяется только под блокировкой записи; новое дерево
+     * строится отдельно и подменяет текущее целиком.
+     */
+    private static final class Trie {
+        private final Map<Long, Set<String>> itemWords = new HashMap<>();
+        private final Node root = new Node();
+
+        private Trie(Collection<ItemDTO> items) {
+            for (ItemDTO item : items) {
+                if (!Boolean.TRUE.equals(item.getAvailable())) {
+                    continue;
+                }
+                Set<String> words = words(item.getName());
+                itemWords.put(item.getId(), words);
+                for (String word : words) {
+                    Node node = root;
+                    for (int i = 0; i < word.length(); i++) {
+                        node = node.children.computeIfAbsent(word.charAt(i), key -> new Node());
+                    }
+                    node.word = word;
+                    node.count++;
+                }
+            }
+            computeTop(root);
+        }
+
+        private void reindex(Long itemId, ItemDTO item) {
+            Set<String> previous = itemWords.remove(itemId);
+            Set<String> current = item != null && Boolean.TRUE.equals(item.getAvailable())
+                    ? words(item.getName()) : Set.of();
+            if (!current.isEmpty()) {
+                itemWords.put(itemId, current);
+            }
+            if (previous != null) {
+                for (String word : previous) {
+                    if (!current.contains(word)) {
+                        update(word, -1);
+                    }
+                }
+            }
+            for (String word : current) {
+                if (previous == null || !previous.contains(word)) {
+                    update(word, 1);
+                }
+            }
+        }
+
+        /**
+         * Меняет частоту слова и пересчитывает списки подсказок на пути от слова к корню.
+         */
+        private void update(String word, int delta) {
+            Node[] path = new Node[word.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < word.length(); i++) {
+                path[i + 1] = path[i].children.computeIfAbsent(word.charAt(i), key -> new Node());
+            }
+            Node node = path[word.length()];
+            node.word = word;
+            node.count += delta;
+            for (int i = word.length(); i >= 0; i--) {
+                Node current = path[i];
+                if (i > 0 && current.count == 0 && current.children.isEmpty()) {
+                    path[i - 1].children.remove(word.charAt(i - 1));
+                    continue;
+                }
+                current.top = top(current);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Suggestion[] top = new Suggestion[0];
+        private String word;
+        private int count;
+    }
+
+    private static final class Suggestion {
+        private final String word;
+        private final int count;
+
+        private Suggestion(String word, int count) {
+            this.word = word;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package ru.practicum.shareit.item.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.dto.ItemImportResult;
+import ru.practicum.shareit.item.mapper.ItemsMapperMapstruct;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+/**
+ * Загрузка вещей владельца из NDJSON: одна вещь в строке.
+ * Тело читается построчно, каждая строка разбирается и проверяется отдельно, ошибки возвращаются
+ * с номером строки. Строка длиннее {@code shareit.items.import.max-line-bytes} не буферизуется целиком:
+ * её остаток пропускается, а строка считается ошибочной. Корректные вещи сохраняются пакетами по {@code shareit.items.import.chunk-size},
+ * каждая пачка - в своей транзакции; если база отклонила пачку, её строки сохраняются по одной.
+ * Неизвестный id запроса игнорируется, как и при добавлении одной вещи.
+ */
+@Component
+@Slf4j
+public class ItemBulkImporter {
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectReader itemReader;
+    private final int chunkSize;
+    private final int maxLineBytes;
+    private final ItemsMapperMapstruct itemsMapper = Mappers.getMapper(ItemsMapperMapstruct.class);
+
+    public ItemBulkImporter(ItemRepository itemRepository, UserRepository userRepository,
+            RequestRepository requestRepository, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, Validator validator, ObjectMapper objectMapper,
+            @Value("${shareit.items.import.chunk-size}") int chunkSize,
+            @Value("${shareit.items.import.max-line-bytes}") int maxLineBytes) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.requestRepository = requestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.itemReader = objectMapper.readerFor(ItemDTO.class);
+        this.chunkSize = chunkSize;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    public ItemImportResult importItems(long userId, InputStream ndjson) throws IOException {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new NotFoundException("Пользователь для добавления вещи не найден");
+        }
+        ItemImportResult result = new ItemImportResult();
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+        try (InputStream input = new BufferedInputStream(ndjson)) {
+            LineBuffer line = new LineBuffer(maxLineBytes);
+            long lineNumber = 0;
+            while (line.readFrom(input)) {
+                lineNumber++;
+                if (line.truncated) {
+                    result.getErrors().add(new ItemImportResult.LineError(lineNumber,
+                            "Строка длиннее " + maxLineBytes + " байт"));
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                ItemDTO itemDTO = parse(line, lineNumber, result);
+                if (itemDTO == null) {
+                    continue;
+                }
+                chunk.add(new ImportLine(lineNumber, itemDTO));
+                if (chunk.size() == chunkSize) {
+                    save(userId, chunk, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            save(userId, chunk, result);
+        }
+        result.getErrors().sort(Comparator.comparingLong(ItemImportResult.LineError::getLine));
+        log.info("Загружено вещей пользователя {}: {}, строк с ошибками: {}", userId, result.getImported(),
+                result.getErrors().size());
+        return result;
+    }
+
+    private ItemDTO parse(LineBuffer line, long lineNumber, ItemImportResult result) {
+        ItemDTO itemDTO;
+        try {
+            itemDTO = itemReader.readValue(line.bytes, 0, line.length);
+        } catch (JsonProcessingException e) {
+            result.getErrors().add(new ItemImportResult.LineError(lineNumber,
+                    "Некорректный JSON: " + e.getOriginalMessage()));
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        if (itemDTO == null) {
+            result.getErrors().add(new ItemImportResult.LineError(lineNumber, "Ожидался объект вещи"));
+            return null;
+        }
+        Set<ConstraintViolation<ItemDTO>> violations = validator.validate(itemDTO);
+        if (!violations.isEmpty()) {
+            result.getErrors().add(new ItemImportResult.LineError(lineNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "))));
+            return null;
+        }
+        itemDTO.setId(null);
+        return itemDTO;
+    }
+
+    /**
+     * Сохраняет пачку в одной транзакции. Если база отклонила пачку, её строки сохраняются по одной,
+     * чтобы ошибкой были отмечены только строки, которые база не приняла.
+     */
+    private void save(long userId, List<ImportLine> chunk, ItemImportResult result) {
+        try {
+            persist(userId, chunk);
+            result.setImported(result.getImported() + chunk.size());
+        } catch (DataAccessException e) {
+            if (chunk.size() == 1) {
+                log.warn("Не удалось сохранить вещь пользователя {} из строки {}", userId, chunk.get(0).number, e);
+                result.getErrors().add(new ItemImportResult.LineError(chunk.get(0).number,
+                        "Не удалось сохранить вещь"));
+                return;
+            }
+            log.warn("Не удалось сохранить пачку вещей пользователя {}, строки сохраняются по одной", userId, e);
+            for (ImportLine line : chunk) {
+                save(userId, List.of(line), result);
+            }
+        }
+    }
+
+    private void persist(long userId, List<ImportLine> lines) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.getReferenceById(userId);
+            Set<Long> requestIds = lines.stream()
+                    .map(line -> line.item.getRequestId())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Set<Long> existingRequestIds = requestIds.isEmpty() ? requestIds
+                    : requestRepository.findExistingIds(requestIds);
+            List<Item> items = new ArrayList<>(lines.size());
+            for (ImportLine line : lines) {
+                Item item = itemsMapper.itemDtoToItem(line.item, userId);
+                item.setOwner(owner);
+                if (existingRequestIds.contains(line.item.getRequestId())) {
+                    item.setRequest(requestRepository.getReferenceById(line.item.getRequestId()));
+                }
+                items.add(itemRepository.save(item));
+            }
+            itemRepository.flush();
+            eventPublisher.publishEvent(new ItemChangedEvent(items.stream()
+                    .map(Item::getId)
+                    .collect(Collectors.toList())));
+        });
+    }
+
+    private static class ImportLine {
+        private final long number;
+        private final ItemDTO item;
+
+        ImportLine(long number, ItemDTO item) {
+            this.number = number;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Строка тела без перевода строки. Хранит не больше {@code maxBytes} байт, остаток длинной строки
+     * читается и отбрасывается.
+     */
+    private static class LineBuffer {
+        private final int maxBytes;
+        private byte[] bytes = new byte[256];
+        private int length;
+        private boolean truncated;
+
+        LineBuffer(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        boolean readFrom(InputStream input) throws IOException {
+            length = 0;
+            truncated = false;
+            int b = input.read();
+            if (b == -1) {
+                return false;
+            }
+            while (b != -1 && b != '\n') {
+                if (length == maxBytes) {
+                    truncated = true;
+                } else if (!truncated) {
+                    if (length == bytes.length) {
+                        bytes = Arrays.copyOf(bytes, Math.min(maxBytes, bytes.length * 2));
+                    }
+                    bytes[length++] = (byte) b;
+                }
+                b = input.read();
+            }
+            return true;
+        }
+
+        boolean isBlank() {
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
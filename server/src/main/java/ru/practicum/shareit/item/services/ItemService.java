@@ -18,7 +18,9 @@ public interface ItemService {
 
     ItemDtoWithBooking getItem(long userId, long itemId);
 
-    List<ItemDTO> searchItem(String text);
+    List<ItemDTO> searchItem(String text, Long from, Long size);
+
+    List<String> suggest(String text, Long size);
 
     CommentDto createComment(long userId, long itemId, InputCommentDto input);
 }
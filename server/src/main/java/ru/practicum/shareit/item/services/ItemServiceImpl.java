@@ -3,11 +3,14 @@ package ru.practicum.shareit.item.services;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.factory.Mappers;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.BookingMapperMapstruct;
+import ru.practicum.shareit.booking.dto.BookingIdAndBookerDto;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.configuration.ParallelReads;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
@@ -20,12 +23,17 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemSuggestIndex;
+import ru.practicum.shareit.logging.LogMarkers;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -39,8 +47,11 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final RequestRepository requestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemSuggestIndex itemSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelReads parallelReads;
     private final ItemsMapperMapstruct itemsMapper = Mappers.getMapper(ItemsMapperMapstruct.class);
-    private final BookingMapperMapstruct bookingMapper = Mappers.getMapper(BookingMapperMapstruct.class);
     private final CommentMapperMapstruct commentMapper = Mappers.getMapper(CommentMapperMapstruct.class);
 
     @Transactional(readOnly = true)
@@ -48,82 +59,84 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemDtoWithBooking> getUserItems(long userId) {
         List<Item> items = itemRepository.findItemsByOwnerIdOrderByIdAsc(userId);
         List<ItemDtoWithBooking> itemDtoWithBookings = itemsMapper.itemsToItemsDtoWithBookings(items);
+        if (items.isEmpty()) {
+            return itemDtoWithBookings;
+        }
         List<Long> itemsId = items.stream().map(Item::getId).collect(Collectors.toList());
-        Map<Long, List<Booking>> bookingsMap = bookingRepository.findBookingsByItemId(itemsId).stream()
-                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
-        log.info("itemDtoWithBookings до установки last & next bookings = " + itemDtoWithBookings);
-        setLastAndNextBookings(itemDtoWithBookings, bookingsMap);
-        log.info("itemDtoWithBookings после установки last & next bookings = " + itemDtoWithBookings);
+        Map<Long, LastAndNextBookingView> lastAndNextBookings = bookingRepository
+                .findLastAndNextBookings(itemsId, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(LastAndNextBookingView::getItemId, view -> view));
+        setLastAndNextBookings(itemDtoWithBookings, lastAndNextBookings);
+        log.info("Вещи владельца получены: ownerId={}, count={}", userId, itemDtoWithBookings.size());
+        log.debug(LogMarkers.PAYLOAD, "Вещи владельца {}: {}", userId, itemDtoWithBookings);
         return itemDtoWithBookings;
     }
 
-    @Transactional(readOnly = true)
-    @Override
-    public ItemDtoWithBooking getItem(long userId, long itemId) {
-        Optional<Item> optionalItem = itemRepository.findById(itemId);
-        if (!optionalItem.isPresent()) {
-            throw new NotFoundException("Item не с id " + itemId + " не найден");
-        }
-        List<CommentDto> comments = commentMapper.commentToCommentDto(commentRepository.findAllByItemId(itemId));
-
-        ItemDtoWithBooking itemDtoWithBooking = itemsMapper.itemToItemDTOWithBookings(optionalItem.get(), comments);
-        if (itemRepository.getItemByIdAndOwnerId(itemId, userId).isPresent()) {
-            Optional<List<Booking>> ownerBookings = bookingRepository.findBookingsByItemIdOrderByEndDesc(itemId);
-
-            if (ownerBookings.isPresent()) {
-                Map<Long, List<Booking>> bookingsMap = ownerBookings.get().stream()
-                        .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
-                log.info("itemDtoWithBooking до установки last & next bookings = " + itemDtoWithBooking);
-                setLastAndNextBookings(Collections.singletonList(itemDtoWithBooking), bookingsMap);
-                log.info("itemDtoWithBooking после установки last & next bookings = " + itemDtoWithBooking);
-            }
-        }
-        return itemDtoWithBooking;
-    }
-
     private void setLastAndNextBookings(List<ItemDtoWithBooking> itemDtoWithBookings,
-                                        Map<Long, List<Booking>> bookingsMap) {
-        LocalDateTime currentTime = LocalDateTime.now();
-
+                                        Map<Long, LastAndNextBookingView> lastAndNextBookings) {
         itemDtoWithBookings.forEach(itemDtoWithBooking -> {
-            Long itemId = itemDtoWithBooking.getId();
-            List<Booking> itemBookings = bookingsMap.getOrDefault(itemId, Collections.emptyList());
-
-            Optional<Booking> lastBooking = itemBookings.stream()
-                    .filter(booking -> booking.getStart().isBefore(currentTime) && booking.getEnd().isAfter(currentTime)
-                            || booking.getEnd().isBefore(currentTime))
-                    .findFirst();
-            if (!lastBooking.isPresent()) {
+            LastAndNextBookingView view = lastAndNextBookings.get(itemDtoWithBooking.getId());
+            if (view == null) {
                 return;
             }
-
-            Optional<Booking> nextBooking = itemBookings.stream()
-                    .filter(booking -> booking.getStart().isAfter(lastBooking.map(Booking::getEnd).orElse(null)))
-                    .min(Comparator.comparing(Booking::getStart));
-
-            nextBooking.ifPresent(
-                    b -> itemDtoWithBooking.setNextBooking(bookingMapper.bookingToBookingDoIdAndOwnerId(b)));
-            lastBooking.ifPresent(
-                    b -> itemDtoWithBooking.setLastBooking(bookingMapper.bookingToBookingDoIdAndOwnerId(b)));
-            log.info("nextBooking= " + nextBooking);
-            log.info("lastBooking= " + lastBooking);
+            itemDtoWithBooking.setLastBooking(new BookingIdAndBookerDto(view.getLastBookingId(),
+                    view.getLastBookerId()));
+            if (view.getNextBookingId() != null) {
+                itemDtoWithBooking.setNextBooking(new BookingIdAndBookerDto(view.getNextBookingId(),
+                        view.getNextBookerId()));
+            }
         });
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Вещь читается первой: по ней определяется владелец. Комментарии и, для владельца, последнее и следующее
+     * бронирования загружаются параллельно проекциями, без сущностей Booking и User, каждая выборка в своей
+     * read-only транзакции.
+     */
     @Override
-    public List<ItemDTO> searchItem(String text) {
-        if (text.trim().isEmpty()) {
-            return new ArrayList<>();
+    public ItemDtoWithBooking getItem(long userId, long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException("Item не с id " + itemId + " не найден"));
+        ItemDtoWithBooking itemDtoWithBooking = itemsMapper.itemToItemDTOWithBookings(item, List.of());
+        boolean owner = item.getOwner() != null && Objects.equals(item.getOwner().getId(), userId);
+
+        CompletableFuture<List<CommentDto>> comments = parallelReads.submit(() ->
+                commentRepository.findCommentDtosByItemId(itemId));
+        CompletableFuture<List<LastAndNextBookingView>> bookings = owner
+                ? parallelReads.submit(() -> bookingRepository.findLastAndNextBookings(List.of(itemId),
+                LocalDateTime.now()))
+                : CompletableFuture.completedFuture(List.of());
+
+        itemDtoWithBooking.setComments(ParallelReads.join(comments));
+        Map<Long, LastAndNextBookingView> lastAndNextBookings = ParallelReads.join(bookings).stream()
+                .collect(Collectors.toMap(LastAndNextBookingView::getItemId, view -> view));
+        setLastAndNextBookings(List.of(itemDtoWithBooking), lastAndNextBookings);
+        log.info("Вещь получена: itemId={}, userId={}, comments={}", itemId, userId,
+                itemDtoWithBooking.getComments().size());
+        log.debug(LogMarkers.PAYLOAD, "Вещь {}: {}", itemId, itemDtoWithBooking);
+        return itemDtoWithBooking;
+    }
+
+    @Override
+    public List<ItemDTO> searchItem(String text, Long from, Long size) {
+        if (from < 0) {
+            throw new BadRequestException("Индекс первого элемента не может быть меньше нуля");
         }
-        Optional<List<Item>> items = itemRepository.search(text);
-        if (!items.isPresent()) {
-            throw new NotFoundException(" По вашему запросу ничего не найдено");
+        if (size <= 0) {
+            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
         }
-        List<ItemDTO> searchedItems = itemsMapper.itemsToDTOItems((items.get()));
-        log.info("searchedItems= " + searchedItems);
+        List<ItemDTO> searchedItems = itemSearchIndex.search(text, from.intValue(), size.intValue());
+        log.info("Поиск вещей: from={}, size={}, found={}", from, size, searchedItems.size());
+        log.debug(LogMarkers.PAYLOAD, "Найденные вещи: {}", searchedItems);
         return searchedItems;
+    }
 
+    @Override
+    public List<String> suggest(String text, Long size) {
+        if (size <= 0) {
+            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
+        }
+        return itemSuggestIndex.suggest(text, (int) Math.min(size, ItemSuggestIndex.MAX_SUGGESTIONS));
     }
 
     @Transactional()
@@ -141,8 +154,9 @@ public class ItemServiceImpl implements ItemService {
 
         item.setOwner(user.get());
         item = itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
         itemDTO.setId(item.getId());
-        log.info("ItemDto добавленный в б/д= " + itemDTO);
+        log.info("Вещь добавлена: itemId={}, ownerId={}", itemDTO.getId(), userId);
         return itemDTO;
     }
 
@@ -154,7 +168,6 @@ public class ItemServiceImpl implements ItemService {
             throw new NotFoundException("Пользователь  с id " + user + " не найден");
         }
         Item oldItem = itemRepository.findItemByIdAndOwnerId(itemDTO.getId(), userID);
-        log.info("Item до обновления в б/д= " + oldItem);
         Item updatedItem = Item.builder()
                 .id(oldItem.getId())
                 .name(itemDTO.getName() != null ? itemDTO.getName() : oldItem.getName())
@@ -163,7 +176,9 @@ public class ItemServiceImpl implements ItemService {
                 .owner(oldItem.getOwner())
                 .build();
         itemRepository.save(updatedItem);
-        log.info("Item после обновления в б/д= " + updatedItem);
+        eventPublisher.publishEvent(new ItemChangedEvent(updatedItem.getId()));
+        log.info("Вещь обновлена: itemId={}, ownerId={}", updatedItem.getId(), userID);
+        log.debug(LogMarkers.PAYLOAD, "Вещь до обновления: {}, после: {}", oldItem, updatedItem);
         return itemsMapper.itemToItemDTO(updatedItem);
     }
 
@@ -171,7 +186,8 @@ public class ItemServiceImpl implements ItemService {
     @Override
     public void deleteItem(long userId, long itemId) {
         itemRepository.deleteByIdAndOwnerId(itemId, userId);
-        log.info("item с id " + itemId + " удалён");
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
+        log.info("Вещь удалена: itemId={}, ownerId={}", itemId, userId);
     }
 
     @Transactional()
@@ -184,16 +200,17 @@ public class ItemServiceImpl implements ItemService {
         }
         Optional<Item> item = itemRepository.findById(itemId);
         item.ifPresent(i -> {
-            Optional<User> author = userRepository.findById(userId);
+            userRepository.findById(userId).orElseThrow();
             Comment comment = Comment.builder()
-                    .author(author.orElseThrow())
+                    .author(userRepository.getReferenceById(userId))
                     .text(input.getText())
-                    .item(i)
+                    .item(itemRepository.getReferenceById(itemId))
                     .build();
             commentToSend.set(commentMapper.commentToCommentDto(commentRepository.save(comment)));
         });
         CommentDto commentDto = commentToSend.get();
-        log.info("commentDto добавленный в б/д= " + commentDto);
+        log.info("Комментарий добавлен: commentId={}, itemId={}, authorId={}",
+                commentDto == null ? null : commentDto.getId(), itemId, userId);
         return commentDto;
     }
 }
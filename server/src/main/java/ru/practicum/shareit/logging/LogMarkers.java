@@ -0,0 +1,16 @@
+package ru.practicum.shareit.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+public final class LogMarkers {
+
+    /**
+     * Дамп содержимого ответа. Такие сообщения пишутся на уровне DEBUG и проходят выборочно,
+     * с долей {@code shareit.logging.payload-sample-rate}.
+     */
+    public static final Marker PAYLOAD = MarkerFactory.getMarker("PAYLOAD");
+
+    private LogMarkers() {
+    }
+}
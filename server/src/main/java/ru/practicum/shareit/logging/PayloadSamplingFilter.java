@@ -0,0 +1,29 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+/**
+ * Пропускает долю {@link #rate} сообщений с маркером {@link LogMarkers#PAYLOAD}, остальные отбрасывает
+ * до форматирования. Подключается в logback-spring.xml.
+ */
+@Setter
+public class PayloadSamplingFilter extends TurboFilter {
+
+    private double rate;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (marker == null || !marker.contains(LogMarkers.PAYLOAD) || !level.isGreaterOrEqual(
+                logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
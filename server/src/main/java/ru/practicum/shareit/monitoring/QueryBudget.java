@@ -0,0 +1,18 @@
+package ru.practicum.shareit.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Наибольшее число SQL-запросов, которое может выполнить обработчик HTTP-запроса.
+ * Превышение пишется в лог, а при {@code shareit.query-budget.fail-on-exceed=true} (в тестах) завершает
+ * запрос ошибкой.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
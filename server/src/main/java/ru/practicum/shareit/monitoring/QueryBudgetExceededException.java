@@ -0,0 +1,8 @@
+package ru.practicum.shareit.monitoring;
+
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.monitoring;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Счётчики SQL одного HTTP-запроса: выполненные запросы к базе, время JDBC и загруженные сущности.
+ * Привязаны к потоку запроса; в потоки {@link ru.practicum.shareit.configuration.ParallelReads}
+ * передаются через {@link #propagate(Runnable)}.
+ */
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final AtomicInteger entities = new AtomicInteger();
+    @Getter
+    @Setter
+    @Nullable
+    private Integer budget;
+
+    @Nullable
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static QueryStats open() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Задача, которая в другом потоке пишет в счётчики текущего запроса.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void statementExecuted(long nanos) {
+        statements.incrementAndGet();
+        jdbcNanos.addAndGet(nanos);
+    }
+
+    void entityLoaded() {
+        entities.incrementAndGet();
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.get();
+    }
+
+    public int getEntities() {
+        return entities.get();
+    }
+
+    public boolean isOverBudget() {
+        return budget != null && getStatements() > budget;
+    }
+
+    /**
+     * Значение заголовка Server-Timing.
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"statements=%d entities=%d\"",
+                getJdbcNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1), getStatements(), getEntities());
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Открывает счётчики SQL на время HTTP-запроса, затем публикует их в метрики
+ * {@code shareit.request.statements}, {@code shareit.request.jdbc} и {@code shareit.request.entities}
+ * и проверяет бюджет обработчика. Запросы асинхронной части потоковых ответов не учитываются.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnExceed;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats.close();
+            record(request, stats);
+        }
+        if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+            response.setHeader(SERVER_TIMING, stats.toServerTiming());
+        }
+        if (stats.isOverBudget()) {
+            String message = String.format("%s %s выполнил %d SQL-запросов при бюджете %d", request.getMethod(),
+                    uri(request), stats.getStatements(), stats.getBudget());
+            if (failOnExceed) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri(request));
+        meterRegistry.summary("shareit.request.statements", tags).record(stats.getStatements());
+        meterRegistry.timer("shareit.request.jdbc", tags).record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        meterRegistry.summary("shareit.request.entities", tags).record(stats.getEntities());
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Считает выполнение запросов и пакетов JDBC в сессии Hibernate. Создаётся Hibernate на каждую сессию
+ * по настройке {@code hibernate.session.events.auto}.
+ */
+public class QueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - executeStart);
+        }
+    }
+}
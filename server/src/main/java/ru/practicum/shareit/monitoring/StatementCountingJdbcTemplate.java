@@ -0,0 +1,36 @@
+package ru.practicum.shareit.monitoring;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JdbcTemplate, запросы которого учитываются в {@link QueryStats} наравне с запросами Hibernate.
+ * Время отсчитывается от подготовки запроса до чтения последней строки результата.
+ */
+public class StatementCountingJdbcTemplate extends JdbcTemplate {
+
+    private final ThreadLocal<Long> executeStart = new ThreadLocal<>();
+
+    public StatementCountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        executeStart.set(System.nanoTime());
+    }
+
+    @Override
+    protected void handleWarnings(Statement stmt) throws SQLException {
+        Long started = executeStart.get();
+        executeStart.remove();
+        QueryStats stats = QueryStats.current();
+        if (started != null && stats != null) {
+            stats.statementExecuted(System.nanoTime() - started);
+        }
+        super.handleWarnings(stmt);
+    }
+}
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.monitoring.QueryBudget;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestData;
@@ -30,11 +33,27 @@ public class ItemRequestController {
     }
 
     @GetMapping()
-    List<ItemRequestDtoWithItems> getItemsRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId) {
-        return itemRequestService.getItemRequests(creatorId);
+    @QueryBudget(2)
+    ResponseEntity<List<ItemRequestDtoWithItems>> getItemsRequest(
+            @RequestHeader(CUSTOM_USER_ID_HEADER) Long creatorId,
+            @RequestParam(defaultValue = "10") Long size,
+            @RequestParam(required = false) String cursor) {
+        if (size <= 0) {
+            throw new BadRequestException("Количество элементов для отображения не может быть меньше или равно нулю");
+        }
+        List<ItemRequestDtoWithItems> requests = itemRequestService.getItemRequests(creatorId,
+                KeysetCursor.decode(cursor), size);
+        if (requests.size() < Math.min(size, ItemRequestServiceImpl.MAX_PAGE_SIZE)) {
+            return ResponseEntity.ok(requests);
+        }
+        ItemRequestDtoWithItems last = requests.get(requests.size() - 1);
+        return ResponseEntity.ok()
+                .header(KeysetCursor.NEXT_CURSOR_HEADER, new KeysetCursor(last.getCreated(), last.getId()).encode())
+                .body(requests);
     }
 
     @GetMapping("/all")
+    @QueryBudget(3)
     List<ItemRequestDtoWithItems> getItemsRequestInPages(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userId,
                                                          @RequestParam(defaultValue = "0") Long from,
                                                          @RequestParam(defaultValue = "10") Long size
@@ -49,6 +68,7 @@ public class ItemRequestController {
     }
 
     @GetMapping("{requestId}")
+    @QueryBudget(3)
     ItemRequestDtoWithItems getItemRequest(@RequestHeader(CUSTOM_USER_ID_HEADER) Long userId,
                                            @PathVariable Long requestId) {
         return itemRequestService.getItemRequest(userId, requestId);
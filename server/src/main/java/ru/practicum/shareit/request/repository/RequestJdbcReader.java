@@ -0,0 +1,124 @@
+package ru.practicum.shareit.request.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.pagination.KeysetCursor;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Чтение запросов вещей через JDBC сразу в {@link ItemRequestDtoWithItems}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequestJdbcReader {
+
+    private static final RowMapper<ItemRequestDtoWithItems> REQUEST_ROW_MAPPER = (rs, rowNum) -> {
+        ItemRequestDtoWithItems request = new ItemRequestDtoWithItems();
+        request.setId(rs.getLong("id"));
+        request.setDescription(rs.getString("description"));
+        request.setCreated(rs.getObject("created", LocalDateTime.class));
+        request.setItems(List.of());
+        return request;
+    };
+
+    private static final RowMapper<ItemForRequestDto> ITEM_ROW_MAPPER = (rs, rowNum) -> new ItemForRequestDto(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getBoolean("is_available"),
+            rs.getLong("request_id"));
+
+    private static final ResultSetExtractor<List<ItemRequestDtoWithItems>> REQUESTS_WITH_ITEMS_EXTRACTOR = rs -> {
+        Map<Long, ItemRequestDtoWithItems> requests = new LinkedHashMap<>();
+        while (rs.next()) {
+            long requestId = rs.getLong("id");
+            ItemRequestDtoWithItems request = requests.get(requestId);
+            if (request == null) {
+                request = new ItemRequestDtoWithItems();
+                request.setId(requestId);
+                request.setDescription(rs.getString("description"));
+                request.setCreated(rs.getObject("created", LocalDateTime.class));
+                request.setItems(new ArrayList<>());
+                requests.put(requestId, request);
+            }
+            long itemId = rs.getLong("item_id");
+            if (!rs.wasNull()) {
+                request.getItems().add(new ItemForRequestDto(itemId, rs.getString("item_name"),
+                        rs.getString("item_description"), rs.getBoolean("is_available"), requestId));
+            }
+        }
+        return new ArrayList<>(requests.values());
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Страница запросов пользователя, старые первыми, вместе с вещами: один запрос к базе.
+     * Курсор указывает на последний запрос предыдущей страницы.
+     */
+    public List<ItemRequestDtoWithItems> findRequesterRequests(Long requesterId, KeysetCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("requesterId", requesterId)
+                .addValue("limit", limit);
+        String after = "";
+        if (cursor != null) {
+            after = "AND (created > :cursorCreated OR (created = :cursorCreated AND id > :cursorId)) ";
+            params.addValue("cursorCreated", cursor.getTimestamp());
+            params.addValue("cursorId", cursor.getId());
+        }
+        return jdbcTemplate.query("SELECT r.id, r.description, r.created, i.id AS item_id, i.name AS item_name, "
+                        + "i.description AS item_description, i.is_available "
+                        + "FROM (SELECT id, description, created "
+                        + "FROM requests "
+                        + "WHERE requestor_id = :requesterId " + after
+                        + "ORDER BY created, id "
+                        + "LIMIT :limit) AS r "
+                        + "LEFT JOIN items AS i ON i.request_id = r.id "
+                        + "ORDER BY r.created, r.id, i.id",
+                params, REQUESTS_WITH_ITEMS_EXTRACTOR);
+    }
+
+    /**
+     * Запросы других пользователей, старые первыми.
+     */
+    public List<ItemRequestDtoWithItems> findOtherUsersRequests(Long userId, int offset, int limit) {
+        List<ItemRequestDtoWithItems> requests = jdbcTemplate.query("SELECT id, description, created "
+                        + "FROM requests "
+                        + "WHERE requestor_id <> :userId "
+                        + "ORDER BY created, id "
+                        + "LIMIT :limit OFFSET :offset",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("limit", limit)
+                        .addValue("offset", offset),
+                REQUEST_ROW_MAPPER);
+        if (requests.isEmpty()) {
+            return requests;
+        }
+
+        Map<Long, List<ItemForRequestDto>> items = jdbcTemplate.query("SELECT id, name, description, "
+                        + "is_available, request_id "
+                        + "FROM items "
+                        + "WHERE request_id IN (:requestIds) "
+                        + "ORDER BY id",
+                new MapSqlParameterSource("requestIds", requests.stream()
+                        .map(ItemRequestDtoWithItems::getId)
+                        .collect(Collectors.toList())),
+                ITEM_ROW_MAPPER).stream()
+                .collect(Collectors.groupingBy(ItemForRequestDto::getRequestId));
+        requests.forEach(request -> request.setItems(items.getOrDefault(request.getId(), List.of())));
+        return requests;
+    }
+}
@@ -3,19 +3,22 @@ package ru.practicum.shareit.request.repository;
 import lombok.NonNull;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface RequestRepository extends JpaRepository<ItemRequest, Long>, PagingAndSortingRepository<ItemRequest, Long> {
-    Long countAllByRequesterId(Long requesterId);
-
-    List<ItemRequest> findAllByRequesterIdOrderByCreatedAsc(Long requesterId, Pageable pageable);
-
     List<ItemRequest> findAllByRequesterIdNot(Long userID, Pageable pageable);
 
     boolean existsById(@NonNull Long requestId);
+
+    @Query("select r.id from ItemRequest r where r.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestData;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
@@ -9,7 +10,7 @@ import java.util.List;
 public interface ItemRequestService {
     ItemRequest postItemRequest(ItemRequestData inputDto);
 
-    List<ItemRequestDtoWithItems> getItemRequests(Long creatorId);
+    List<ItemRequestDtoWithItems> getItemRequests(Long creatorId, KeysetCursor cursor, Long size);
 
     List<ItemRequestDtoWithItems> getItemRequestsInPages(Long creatorId, Long from, Long size);
 
@@ -8,13 +8,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.configuration.ReadPaths;
+import ru.practicum.shareit.configuration.ReadPaths.ReadPath;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.logging.LogMarkers;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.RequestMapperMapstruct;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestData;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.request.repository.RequestJdbcReader;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -29,9 +34,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class ItemRequestServiceImpl implements ItemRequestService {
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final RequestRepository requestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final RequestJdbcReader requestJdbcReader;
+    private final ReadPaths readPaths;
     private final RequestMapperMapstruct requestMapper = Mappers.getMapper(RequestMapperMapstruct.class);
 
     @Transactional
@@ -43,26 +52,19 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         ItemRequest itemRequest = requestMapper.itemRequestDtoToItemRequest(itemRequestData.getInputDto());
         itemRequest.setRequester(user);
         requestRepository.save(itemRequest);
-        log.info("Добавлено в базу данных itemRequest= " + itemRequest);
+        log.info("Запрос вещи добавлен: requestId={}, requesterId={}", itemRequest.getId(), user.getId());
         return itemRequest;
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<ItemRequestDtoWithItems> getItemRequests(Long creatorId) {
+    public List<ItemRequestDtoWithItems> getItemRequests(Long creatorId, KeysetCursor cursor, Long size) {
         userValidation(creatorId);
 
-        List<ItemRequestDtoWithItems> result = new ArrayList<>();
-
-        Long userRequestCount = requestRepository.countAllByRequesterId(creatorId);
-        if (userRequestCount == 0) {
-            userRequestCount++;
-        }
-
-        Pageable sortedByCreated = PageRequest.of(0, userRequestCount.intValue(), Sort.by("created")
-                .ascending());
-        result = getItemRequestDtoWithItems(creatorId, result, sortedByCreated, true);
-        log.info("Список полученных реквестов= " + result);
+        List<ItemRequestDtoWithItems> result = requestJdbcReader.findRequesterRequests(creatorId, cursor,
+                (int) Math.min(size, MAX_PAGE_SIZE));
+        log.info("Запросы пользователя получены: requesterId={}, size={}, count={}", creatorId, size, result.size());
+        log.debug(LogMarkers.PAYLOAD, "Запросы пользователя {}: {}", creatorId, result);
         return result;
     }
 
@@ -74,51 +76,45 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         List<ItemRequestDtoWithItems> result = new ArrayList<>();
 
         PageRequest sortedByCreated = PageRequest.of(from.intValue() > 0 ? from.intValue() / size.intValue() : 0,
-                size.intValue(), Sort.by("created").ascending());
+                size.intValue(), Sort.by("created", "id").ascending());
 
-        result = getItemRequestDtoWithItems(userId, result, sortedByCreated, false);
-        log.info("Список полученных реквестов= " + result);
+        if (readPaths.getOtherRequests() == ReadPath.JDBC) {
+            result = requestJdbcReader.findOtherUsersRequests(userId, (int) sortedByCreated.getOffset(),
+                    sortedByCreated.getPageSize());
+        } else {
+            result = getItemRequestDtoWithItems(userId, result, sortedByCreated);
+        }
+        log.info("Запросы других пользователей получены: userId={}, from={}, size={}, count={}", userId, from, size,
+                result.size());
+        log.debug(LogMarkers.PAYLOAD, "Запросы других пользователей для {}: {}", userId, result);
         return result;
     }
 
     private List<ItemRequestDtoWithItems> getItemRequestDtoWithItems(Long userId,
                                                                      List<ItemRequestDtoWithItems> result,
-                                                                     Pageable sortedByCreated,
-                                                                     boolean isCreator) {
-        Map<Long, ItemRequest> userRequests;
-        if (isCreator) {
-            userRequests = requestRepository.findAllByRequesterIdOrderByCreatedAsc(userId, sortedByCreated).stream()
-                    .collect(Collectors.toMap(ItemRequest::getId, itemRequest -> itemRequest));
-        } else {
-            userRequests = requestRepository.findAllByRequesterIdNot(userId, sortedByCreated).stream()
-                    .collect(Collectors.toMap(ItemRequest::getId, itemRequest -> itemRequest));
-        }
+                                                                     Pageable sortedByCreated) {
+        List<ItemRequest> userRequests = requestRepository.findAllByRequesterIdNot(userId, sortedByCreated);
         if (!userRequests.isEmpty()) {
             result = getItemRequestDtoWithItems(userRequests);
         }
-        log.info("Список полученных реквестов= " + result);
         return result;
     }
 
-    private List<ItemRequestDtoWithItems> getItemRequestDtoWithItems(Map<Long, ItemRequest> itemRequests) {
-        List<ItemRequestDtoWithItems> result = new ArrayList<>();
-
-        ItemRequestDtoWithItems requestWithItems;
-
-        List<Long> requestsId = new ArrayList<>(itemRequests.keySet());
-        Map<Long, ItemForRequestDto> responseItems = itemRepository.findAllByRequests(requestsId)
+    /**
+     * Вещи группируются по id запроса за один проход, запросы остаются в порядке страницы.
+     */
+    private List<ItemRequestDtoWithItems> getItemRequestDtoWithItems(List<ItemRequest> itemRequests) {
+        List<Long> requestsId = itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemForRequestDto>> responseItems = itemRepository.findAllByRequests(requestsId)
                 .stream()
-                .collect(Collectors.toMap(ItemForRequestDto::getRequestId, item -> item));
-
-        for (Long requestId : requestsId) {
-            requestWithItems = requestMapper.itemRequestToItemRequestDtoWithItems(itemRequests.get(requestId));
-
-            List<ItemForRequestDto> items = responseItems.values()
-                    .stream()
-                    .filter(item -> item.getRequestId().equals(requestId))
-                    .collect(Collectors.toList());
+                .collect(Collectors.groupingBy(ItemForRequestDto::getRequestId));
 
-            requestWithItems.setItems(items);
+        List<ItemRequestDtoWithItems> result = new ArrayList<>(itemRequests.size());
+        for (ItemRequest itemRequest : itemRequests) {
+            ItemRequestDtoWithItems requestWithItems = requestMapper.itemRequestToItemRequestDtoWithItems(itemRequest);
+            requestWithItems.setItems(responseItems.getOrDefault(itemRequest.getId(), List.of()));
             result.add(requestWithItems);
         }
         return result;
@@ -133,25 +129,26 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         Optional<ItemRequest> itemRequest = requestRepository.findById(itemRequestId);
 
         if (itemRequest.isPresent()) {
-            result = getItemRequestDtoWithItems(Map.of(itemRequestId, itemRequest.get()));
+            result = getItemRequestDtoWithItems(List.of(itemRequest.get()));
         }
-        log.info("Получен реквест= " + result.get(0));
+        log.info("Запрос вещи получен: requestId={}, userId={}, items={}", itemRequestId, creatorId,
+                result.get(0).getItems().size());
         return result.get(0);
     }
 
     private void userValidation(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        if (userRepository.findById(userId).isEmpty()) {
             throw new NotFoundException("Пользователь с id " + userId + " не найден");
         }
     }
 
     private void validation(Long creatorId, Long itemRequestId) {
-        if (!userRepository.existsById(creatorId)) {
-            log.warn("Пользователь с id " + creatorId + " не найден");
+        if (userRepository.findById(creatorId).isEmpty()) {
+            log.warn("Пользователь не найден: userId={}", creatorId);
             throw new NotFoundException("Пользователь с id " + creatorId + " не найден");
         }
         if (!requestRepository.existsById(itemRequestId)) {
-            log.warn("Реквест с id " + itemRequestId + " не найден");
+            log.warn("Запрос вещи не найден: requestId={}", itemRequestId);
             throw new NotFoundException("Реквест с id " + itemRequestId + " не найден");
         }
     }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.monitoring.QueryBudget;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.services.UserService;
 
@@ -22,22 +23,24 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping("/{userId}")
-    public User getUser(@PathVariable long userId) {
+    @QueryBudget(1)
+    public UserOutputDto getUser(@PathVariable long userId) {
         return userService.getUser(userId);
     }
 
     @GetMapping
-    public List<User> getAllUsers() {
+    @QueryBudget(1)
+    public List<UserOutputDto> getAllUsers() {
         return userService.getAllUsers();
     }
 
     @PostMapping
-    public User saveNewUser(@RequestBody @Valid User user) {
+    public UserOutputDto saveNewUser(@RequestBody @Valid User user) {
         return userService.saveUser(user);
     }
 
     @PatchMapping("/{userId}")
-    public User updateUser(@PathVariable int userId, @RequestBody UserDTO userDTO) {
+    public UserOutputDto updateUser(@PathVariable int userId, @RequestBody UserDTO userDTO) {
         return userService.updateUser(userId, userDTO);
     }
 
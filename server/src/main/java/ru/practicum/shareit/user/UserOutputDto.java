@@ -0,0 +1,13 @@
+package ru.practicum.shareit.user;
+
+import lombok.Value;
+
+/**
+ * Пользователь в ответе API. Списки читаются из базы проекцией, без загрузки сущностей.
+ */
+@Value
+public class UserOutputDto {
+    Long id;
+    String email;
+    String name;
+}
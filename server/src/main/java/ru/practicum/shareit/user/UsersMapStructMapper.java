@@ -8,4 +8,5 @@ public interface UsersMapStructMapper {
 
     User userDtoToUser(UserDTO userDTO);
 
+    UserOutputDto userToUserOutputDto(User user);
 }
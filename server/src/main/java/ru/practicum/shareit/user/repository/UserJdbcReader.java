@@ -0,0 +1,25 @@
+package ru.practicum.shareit.user.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.user.UserOutputDto;
+
+/**
+ * Чтение пользователей через JDBC сразу в {@link UserOutputDto}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcReader {
+
+    private static final RowMapper<UserOutputDto> ROW_MAPPER = (rs, rowNum) ->
+            new UserOutputDto(rs.getLong("id"), rs.getString("email"), rs.getString("name"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UserOutputDto> findAll() {
+        return jdbcTemplate.query("SELECT id, email, name FROM users ORDER BY id", ROW_MAPPER);
+    }
+}
@@ -1,7 +1,11 @@
 package ru.practicum.shareit.user.repository;
 
+import java.util.List;
+import java.util.Optional;
 import lombok.NonNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.user.UserOutputDto;
 import ru.practicum.shareit.user.model.User;
 
 
@@ -12,4 +16,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsById(@NonNull Long userId);
+
+    @Query("select new ru.practicum.shareit.user.UserOutputDto(u.id, u.email, u.name) "
+            + "from User as u "
+            + "order by u.id")
+    List<UserOutputDto> findAllOutputDtos();
 }
\ No newline at end of file
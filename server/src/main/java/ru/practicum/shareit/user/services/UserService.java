@@ -3,17 +3,18 @@ package ru.practicum.shareit.user.services;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.user.UserDTO;
+import ru.practicum.shareit.user.UserOutputDto;
 import ru.practicum.shareit.user.model.User;
 
 @Service
 public interface UserService {
-    User getUser(long id);
+    UserOutputDto getUser(long id);
 
-    List<User> getAllUsers();
+    List<UserOutputDto> getAllUsers();
 
-    User saveUser(User user);
+    UserOutputDto saveUser(User user);
 
-    User updateUser(long userId, UserDTO user);
+    UserOutputDto updateUser(long userId, UserDTO user);
 
     void removeUser(long userId);
 }
\ No newline at end of file
@@ -7,11 +7,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.factory.Mappers;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.configuration.ReadPaths;
+import ru.practicum.shareit.configuration.ReadPaths.ReadPath;
 import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.logging.LogMarkers;
 import ru.practicum.shareit.user.UserDTO;
+import ru.practicum.shareit.user.UserOutputDto;
 import ru.practicum.shareit.user.UsersMapStructMapper;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserJdbcReader;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 @Service
@@ -21,43 +26,47 @@ public class UserServiceImpl implements UserService {
 
     private final UsersMapStructMapper mapper = Mappers.getMapper(UsersMapStructMapper.class);
     private final UserRepository repository;
+    private final UserJdbcReader jdbcReader;
+    private final ReadPaths readPaths;
 
     @Transactional(readOnly = true)
     @Override
-    public User getUser(long id) {
+    public UserOutputDto getUser(long id) {
         Optional<User> userForGet = repository.findById(id);
         if (!userForGet.isPresent()) {
             throw new NotFoundException("Пользователь с id " + id + " не найден");
         }
-        User userToSend = userForGet.get();
-        log.info("userToSend= " + userToSend);
-        return userToSend;
+        log.info("Пользователь получен: userId={}", id);
+        return mapper.userToUserOutputDto(userForGet.get());
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<User> getAllUsers() {
-        List<User> userToSent = repository.findAll();
-        log.info("Список полученных пользователей= " + userToSent);
+    public List<UserOutputDto> getAllUsers() {
+        List<UserOutputDto> userToSent = readPaths.getUsers() == ReadPath.JDBC
+                ? jdbcReader.findAll()
+                : repository.findAllOutputDtos();
+        log.info("Пользователи получены: count={}", userToSent.size());
+        log.debug(LogMarkers.PAYLOAD, "Пользователи: {}", userToSent);
         return userToSent;
     }
 
     @Transactional()
     @Override
-    public User saveUser(User user) {
+    public UserOutputDto saveUser(User user) {
         User userFromBd;
         try {
-            userFromBd = repository.save(user);
+            userFromBd = repository.saveAndFlush(user);
         } catch (Exception e) {
             throw new ConflictException("пользователь с " + user.getEmail() + " уже существует.");
         }
-        log.info("Пользователь сохранён в базу данных= " + userFromBd);
-        return userFromBd;
+        log.info("Пользователь добавлен: userId={}", userFromBd.getId());
+        return mapper.userToUserOutputDto(userFromBd);
     }
 
     @Transactional()
     @Override
-    public User updateUser(long userId, UserDTO userDTO) {
+    public UserOutputDto updateUser(long userId, UserDTO userDTO) {
         User userForUpdate = mapper.userDtoToUser(userDTO);
         Optional<User> userFromBd = repository.findById(userId);
         if (!userFromBd.isPresent()) {
@@ -68,25 +77,19 @@ public class UserServiceImpl implements UserService {
                 throw new ConflictException("пользователь с таким email уже существует");
             }
         }
-        if (userForUpdate.getEmail() != null && userForUpdate.getName() != null) {
-            userFromBd.get().setId(userId);
-            userFromBd.get().setName(userForUpdate.getName());
-            userFromBd.get().setEmail(userForUpdate.getEmail());
-        } else if (userForUpdate.getName() != null) {
-            userFromBd.get().setName(userForUpdate.getName());
-        } else if (userForUpdate.getEmail() != null) {
-            userFromBd.get().setEmail(userForUpdate.getEmail());
-        }
-        User userToSave = userFromBd.get();
+        User userToSave = new User();
+        userToSave.setId(userId);
+        userToSave.setName(userForUpdate.getName() != null ? userForUpdate.getName() : userFromBd.get().getName());
+        userToSave.setEmail(userForUpdate.getEmail() != null ? userForUpdate.getEmail() : userFromBd.get().getEmail());
         repository.save(userToSave);
-        log.info("Пользователь сохранён в базу данных= " + userToSave);
-        return userToSave;
+        log.info("Пользователь обновлён: userId={}", userId);
+        return mapper.userToUserOutputDto(userToSave);
     }
 
     @Transactional()
     @Override
     public void removeUser(long userId) {
         repository.deleteById(userId);
-        log.info("Пользователь с id " + userId + " удалён из базы данных");
+        log.info("Пользователь удалён: userId={}", userId);
     }
 }
\ No newline at end of file
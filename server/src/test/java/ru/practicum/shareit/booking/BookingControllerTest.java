@@ -13,20 +13,28 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.util.NestedServletException;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
 import ru.practicum.shareit.booking.enums.BookingStatus;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.enums.BookingExportFormat;
+import ru.practicum.shareit.booking.service.BookingExporter;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.user.model.User;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
@@ -36,6 +44,8 @@ class BookingControllerTest {
 
     @Mock
     private BookingService bookingService;
+    @Mock
+    private BookingExporter bookingExporter;
 
     @InjectMocks
     private BookingController bookingController;
@@ -67,9 +77,7 @@ class BookingControllerTest {
                 .itemId(item.getId())
                 .build();
 
-        Booking expectedBooking = new Booking();
-        expectedBooking.setId(1L);
-        expectedBooking.setStatus(BookingStatus.WAITING);
+        BookingOutputDto expectedBooking = booking(1L, BookingStatus.WAITING, null);
         Mockito.when(bookingService.createBooking(Mockito.any(BookingInputDto.class), Mockito.anyLong()))
                 .thenReturn(expectedBooking);
 
@@ -107,8 +115,7 @@ class BookingControllerTest {
         long bookingId = 1L;
         boolean approved = true;
 
-        Booking expectedBooking = new Booking();
-        expectedBooking.setId(bookingId);
+        BookingOutputDto expectedBooking = booking(bookingId, BookingStatus.APPROVED, null);
         Mockito.when(bookingService.setApproved(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyBoolean()))
                 .thenReturn(expectedBooking);
 
@@ -116,7 +123,9 @@ class BookingControllerTest {
                         .header(CUSTOM_USER_ID_HEADER, ownerId)
                         .param("approved", String.valueOf(approved)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").exists());
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.item.name").value("testItem"))
+                .andExpect(jsonPath("$.booker.id").value(2L));
 
         Mockito.verify(bookingService).setApproved(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyBoolean());
     }
@@ -127,8 +136,7 @@ class BookingControllerTest {
         long userId = 1L;
         long bookingId = 1L;
 
-        Booking expectedBooking = new Booking();
-        expectedBooking.setId(bookingId);
+        BookingOutputDto expectedBooking = booking(bookingId, BookingStatus.WAITING, null);
         Mockito.when(bookingService.getBooking(Mockito.anyLong(), Mockito.anyLong())).thenReturn(expectedBooking);
 
         mockMvc.perform(get("/bookings/{bookingId}", bookingId)
@@ -147,7 +155,8 @@ class BookingControllerTest {
         long from = 0L;
         long size = 10L;
 
-        List<Booking> expectedBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingOutputDto> expectedBookings = Arrays.asList(booking(1L, BookingStatus.WAITING, null),
+                booking(2L, BookingStatus.WAITING, null));
         Mockito.when(bookingService.getAllBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
                         Mockito.anyLong()))
                 .thenReturn(expectedBookings);
@@ -173,7 +182,8 @@ class BookingControllerTest {
         long from = 0L;
         long size = 10L;
 
-        List<Booking> expectedBookings = Arrays.asList(new Booking(), new Booking());
+        List<BookingOutputDto> expectedBookings = Arrays.asList(booking(1L, BookingStatus.WAITING, null),
+                booking(2L, BookingStatus.WAITING, null));
         Mockito.when(bookingService.getAllOwnerBookings(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(),
                         Mockito.anyLong()))
                 .thenReturn(expectedBookings);
@@ -228,4 +238,65 @@ class BookingControllerTest {
         Mockito.verify(bookingService, Mockito.never()).getAllBookings(Mockito.anyLong(), Mockito.anyString(),
                 Mockito.anyLong(), Mockito.anyLong());
     }
-}
\ No newline at end of file
+
+    @DisplayName("Проверка получения бронирований по курсору")
+    @Test
+    void getAllUserBookingsWithCursorShouldReturnNextCursor() throws Exception {
+        LocalDateTime end = LocalDateTime.of(2030, 1, 1, 12, 0);
+        KeysetCursor cursor = new KeysetCursor(end.plusDays(1), 10L);
+        Mockito.when(bookingService.getAllBookings(1L, "ALL", cursor, 1L))
+                .thenReturn(List.of(booking(7L, BookingStatus.APPROVED, end)));
+
+        mockMvc.perform(get("/bookings")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(7L))
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER, new KeysetCursor(end, 7L).encode()));
+    }
+
+    @DisplayName("Проверка отсутствия следующего курсора на последней странице владельца")
+    @Test
+    void getAllOwnersBookingsWithEmptyCursorShouldReturnFirstPage() throws Exception {
+        Mockito.when(bookingService.getAllOwnerBookings(1L, "ALL", (KeysetCursor) null, 10L))
+                .thenReturn(List.of(booking(1L, BookingStatus.WAITING, null)));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @DisplayName("Проверка выгрузки бронирований владельца")
+    @Test
+    void exportOwnersBookingsShouldStreamBody() throws Exception {
+        Mockito.when(bookingExporter.export(1L, BookingExportFormat.NDJSON))
+                .thenReturn(out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"bookings.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @DisplayName("Проверка выгрузки бронирований в неизвестном формате")
+    @Test
+    void exportOwnersBookingsWithUnknownFormatShouldThrowException() {
+        Assertions.assertThrows(NestedServletException.class, () -> mockMvc.perform(get("/bookings/owner/export")
+                .header(CUSTOM_USER_ID_HEADER, 1L)
+                .param("format", "xml")));
+    }
+
+    private BookingOutputDto booking(Long id, BookingStatus status, LocalDateTime end) {
+        return new BookingOutputDto(id, null, end, status, item.getId(), item.getName(), 2L, "testBooker");
+    }
+}
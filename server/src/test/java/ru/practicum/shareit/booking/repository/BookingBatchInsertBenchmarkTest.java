@@ -0,0 +1,143 @@
+package ru.practicum.shareit.booking.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+/**
+ * Вставка 100 000 бронирований по одной строке за обращение к базе (как при IDENTITY) и пакетами по 50.
+ * Считаются выполненные JDBC-запросы: вставки и выборки следующего блока id из последовательности.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.transaction=WARN"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class BookingBatchInsertBenchmarkTest {
+
+    private static final int BOOKINGS = 100_000;
+    private static final int CHUNK = 1_000;
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@email.ru')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'booker', 'booker@email.ru')");
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id) "
+                + "VALUES (1, 'item', 'description', TRUE, 1)");
+    }
+
+    @DisplayName("Пакетная вставка бронирований против вставки по одной строке")
+    @Test
+    void compareBatchedAndSingleRowInserts() {
+        long singleRow = insertBookings("batch_size=1", 1);
+        long batched = insertBookings("batch_size=50", 50);
+
+        Assertions.assertTrue(batched * 10 < singleRow);
+    }
+
+    private long insertBookings(String name, int batchSize) {
+        jdbcTemplate.update("DELETE FROM bookings");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        ROUND_TRIPS.set(0);
+        long started = System.nanoTime();
+        for (int from = 0; from < BOOKINGS; from += CHUNK) {
+            int offset = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                Item item = entityManager.getReference(Item.class, 1L);
+                User booker = entityManager.getReference(User.class, 2L);
+                for (int i = offset; i < offset + CHUNK; i++) {
+                    Booking booking = new Booking();
+                    booking.setItem(item);
+                    booking.setBooker(booker);
+                    booking.setStart(start.plusHours(i));
+                    booking.setEnd(start.plusHours(i).plusMinutes(30));
+                    booking.setStatus(BookingStatus.WAITING);
+                    entityManager.persist(booking);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - started;
+        long roundTrips = ROUND_TRIPS.get();
+        Assertions.assertEquals(BOOKINGS, jdbcTemplate.queryForObject("SELECT count(*) FROM bookings", Long.class));
+        System.out.printf("%-14s rows=%d time=%6.0f ms round trips=%d rows per round trip=%.1f%n", name, BOOKINGS,
+                elapsed / 1e6, roundTrips, (double) BOOKINGS / roundTrips);
+        return roundTrips;
+    }
+
+    @TestConfiguration
+    static class RoundTripCounterConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? proxy(DataSource.class, bean) : bean;
+                }
+            };
+        }
+
+        /**
+         * Оборачивает соединения и запросы, считая каждый execute и executeBatch одним обращением к базе.
+         */
+        private static <T> T proxy(Class<T> type, Object target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            ROUND_TRIPS.incrementAndGet();
+                        }
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Connection) {
+                            return proxy(Connection.class, result);
+                        }
+                        if (result instanceof Statement && method.getReturnType().isInterface()) {
+                            return proxy(method.getReturnType(), result);
+                        }
+                        return result;
+                    }));
+        }
+    }
+}
@@ -8,15 +8,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ru.practicum.shareit.booking.dto.BookingInterval;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
+import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,8 +60,8 @@ class BookingRepositoryTest {
         booking.setBooker(user2);
         booking.setStatus(BookingStatus.WAITING);
         booking.setItem(item2);
-        booking.setStart(LocalDateTime.now());
-        booking.setEnd(LocalDateTime.now().plusHours(25));
+        booking.setStart(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        booking.setEnd(booking.getStart().plusHours(25));
     }
 
     @DisplayName("Проверка получения бронирования из базы данных")
@@ -67,9 +72,12 @@ class BookingRepositoryTest {
         em.persist(item);
         em.persist(booking);
 
-        Optional<Booking> optionalBooking = bookingRepository.findByIdWithItemAndBooker(booking.getId(), user2.getId());
+        Optional<BookingOutputDto> optionalBooking = bookingRepository.findOutputDtoById(booking.getId(),
+                user2.getId());
         Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get());
+        Assertions.assertEquals(dto(booking), optionalBooking.get());
+        Assertions.assertTrue(bookingRepository.findOutputDtoById(booking.getId(), user.getId()).isPresent());
+        Assertions.assertTrue(bookingRepository.findOutputDtoById(booking.getId(), -1L).isEmpty());
     }
 
     @DisplayName("Проверка получения всех текущих бронирований пользователя")
@@ -80,12 +88,10 @@ class BookingRepositoryTest {
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().bookerId(user2.getId()).state(BookingState.CURRENT).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllCurrentByUserIdAndSortByDesc(user2.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @DisplayName("Проверка получения всех текущих бронирований Владельцем")
@@ -96,111 +102,244 @@ class BookingRepositoryTest {
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().ownerId(user.getId()).state(BookingState.CURRENT).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllCurrentByOwnerIdAndSortByDesc(user.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @DisplayName("Проверка получения всех прошедших бронирований Пользователем")
     @Test
     void findAllPastByUserIdAndSortByDesc() {
-        booking.setStart(LocalDateTime.now().minusDays(5));
+        booking.setStart(LocalDateTime.now().minusDays(5).truncatedTo(ChronoUnit.SECONDS));
         booking.setEnd(booking.getStart().plusHours(10));
         em.persist(user);
         em.persist(user2);
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().bookerId(user2.getId()).state(BookingState.PAST).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllPastByUserIdAndSortByDesc(user2.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @DisplayName("Проверка получения всех прошедших бронирований Владельцем")
     @Test
     void findAllPastByOwnerIdAndSortByDesc() {
-        booking.setStart(LocalDateTime.now().minusDays(5));
+        booking.setStart(LocalDateTime.now().minusDays(5).truncatedTo(ChronoUnit.SECONDS));
         booking.setEnd(booking.getStart().plusHours(10));
         em.persist(user);
         em.persist(user2);
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().ownerId(user.getId()).state(BookingState.PAST).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllPastByOwnerIdAndSortByDesc(user.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @Test
     void findAllFutureByUserIdAndSortByDesc() {
-        booking.setStart(LocalDateTime.now().plusDays(25));
-        booking.setEnd(LocalDateTime.now().plusDays(30));
+        booking.setStart(LocalDateTime.now().plusDays(25).truncatedTo(ChronoUnit.SECONDS));
+        booking.setEnd(booking.getStart().plusDays(5));
         em.persist(user);
         em.persist(user2);
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().bookerId(user2.getId()).state(BookingState.FUTURE).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllFutureByUserIdAndSortByDesc(user2.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @Test
     void findAllFutureByOwnerIdAndSortByDesc() {
-        booking.setStart(LocalDateTime.now().plusDays(25));
-        booking.setEnd(LocalDateTime.now().plusDays(30));
+        booking.setStart(LocalDateTime.now().plusDays(25).truncatedTo(ChronoUnit.SECONDS));
+        booking.setEnd(booking.getStart().plusDays(5));
         em.persist(user);
         em.persist(user2);
         em.persist(item);
         em.persist(booking);
         long size = 4L;
-        PageRequest sortedByEndDesc = PageRequest.of(0, (int) size, Sort.by("end").descending());
+        BookingFilter filter = BookingFilter.builder().ownerId(user.getId()).state(BookingState.FUTURE).build();
 
-        Optional<List<Booking>> optionalBooking = bookingRepository
-                .findAllFutureByOwnerIdAndSortByDesc(user.getId(), sortedByEndDesc);
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<BookingOutputDto> bookings = bookingRepository.findBookings(filter, null, 0, (int) size);
+        Assertions.assertEquals(dto(booking), bookings.get(0));
     }
 
     @Test
-    void findBookingsByItemId() {
+    void findBookingByBookerIdAndItemIdAndStatusApproved() {
+        booking.setStart(LocalDateTime.now().minusDays(5));
+        booking.setEnd(LocalDateTime.now().minusDays(4));
+        booking.setStatus(BookingStatus.APPROVED);
+
         em.persist(user);
         em.persist(user2);
         em.persist(item2);
         em.persist(booking);
 
         Optional<List<Booking>> optionalBooking = Optional.ofNullable(bookingRepository
-                .findBookingsByItemId(List.of(item2.getId())));
+                .findBookingByBookerIdAndItemIdAndStatusApproved(user2.getId(), item2.getId()));
         Assertions.assertTrue(optionalBooking.isPresent());
         Assertions.assertEquals(booking, optionalBooking.get().get(0));
     }
 
+    @DisplayName("Проверка получения последнего и следующего бронирования вещей")
     @Test
-    void findBookingByBookerIdAndItemIdAndStatusApproved() {
+    void findLastAndNextBookings() {
         booking.setStart(LocalDateTime.now().minusDays(5));
         booking.setEnd(LocalDateTime.now().minusDays(4));
-        booking.setStatus(BookingStatus.APPROVED);
+        Booking olderBooking = new Booking();
+        olderBooking.setBooker(user2);
+        olderBooking.setStatus(BookingStatus.APPROVED);
+        olderBooking.setItem(item2);
+        olderBooking.setStart(LocalDateTime.now().minusDays(10));
+        olderBooking.setEnd(LocalDateTime.now().minusDays(9));
+        Booking nextBooking = new Booking();
+        nextBooking.setBooker(user2);
+        nextBooking.setStatus(BookingStatus.WAITING);
+        nextBooking.setItem(item2);
+        nextBooking.setStart(LocalDateTime.now().plusDays(1));
+        nextBooking.setEnd(LocalDateTime.now().plusDays(2));
+        Booking laterBooking = new Booking();
+        laterBooking.setBooker(user2);
+        laterBooking.setStatus(BookingStatus.WAITING);
+        laterBooking.setItem(item2);
+        laterBooking.setStart(LocalDateTime.now().plusDays(3));
+        laterBooking.setEnd(LocalDateTime.now().plusDays(4));
 
         em.persist(user);
         em.persist(user2);
+        em.persist(item);
         em.persist(item2);
+        em.persist(olderBooking);
         em.persist(booking);
+        em.persist(laterBooking);
+        em.persist(nextBooking);
 
-        Optional<List<Booking>> optionalBooking = Optional.ofNullable(bookingRepository
-                .findBookingByBookerIdAndItemIdAndStatusApproved(user2.getId(), item2.getId()));
-        Assertions.assertTrue(optionalBooking.isPresent());
-        Assertions.assertEquals(booking, optionalBooking.get().get(0));
+        List<LastAndNextBookingView> views = bookingRepository
+                .findLastAndNextBookings(List.of(item.getId(), item2.getId()), LocalDateTime.now());
+        Assertions.assertEquals(1, views.size());
+        Assertions.assertAll("ожидаются последнее и следующее бронирования item2",
+                () -> Assertions.assertEquals(item2.getId(), views.get(0).getItemId()),
+                () -> Assertions.assertEquals(booking.getId(), views.get(0).getLastBookingId()),
+                () -> Assertions.assertEquals(user2.getId(), views.get(0).getLastBookerId()),
+                () -> Assertions.assertEquals(nextBooking.getId(), views.get(0).getNextBookingId()),
+                () -> Assertions.assertEquals(user2.getId(), views.get(0).getNextBookerId()));
+    }
+
+    @DisplayName("Проверка получения интервалов бронирований вещи по статусам")
+    @Test
+    void findIntervalsByItemIdAndStatusIn() {
+        booking.setStart(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS));
+        booking.setEnd(booking.getStart().plusDays(1));
+        Booking rejectedBooking = new Booking();
+        rejectedBooking.setBooker(user2);
+        rejectedBooking.setStatus(BookingStatus.REJECTED);
+        rejectedBooking.setItem(item2);
+        rejectedBooking.setStart(LocalDateTime.now().plusDays(1));
+        rejectedBooking.setEnd(LocalDateTime.now().plusDays(2));
+
+        em.persist(user);
+        em.persist(user2);
+        em.persist(item);
+        em.persist(booking);
+        em.persist(rejectedBooking);
+
+        List<BookingInterval> intervals = bookingRepository.findIntervalsByItemIdAndStatusIn(item2.getId(),
+                EnumSet.of(BookingStatus.WAITING, BookingStatus.APPROVED));
+        Assertions.assertEquals(1, intervals.size());
+        Assertions.assertAll("ожидается интервал ожидающего бронирования",
+                () -> Assertions.assertEquals(booking.getId(), intervals.get(0).getId()),
+                () -> Assertions.assertEquals(booking.getStart(), intervals.get(0).getStart()),
+                () -> Assertions.assertEquals(booking.getEnd(), intervals.get(0).getEnd()));
+    }
+
+    @DisplayName("Проверка постраничного получения бронирований владельца по курсору")
+    @Test
+    void findBookingsPagedByCursor() {
+        LocalDateTime end = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        booking.setStart(end.minusDays(1));
+        booking.setEnd(end);
+        Booking sameEndBooking = new Booking();
+        sameEndBooking.setBooker(user2);
+        sameEndBooking.setStatus(BookingStatus.APPROVED);
+        sameEndBooking.setItem(item);
+        sameEndBooking.setStart(end.minusHours(2));
+        sameEndBooking.setEnd(end);
+        Booking olderBooking = new Booking();
+        olderBooking.setBooker(user2);
+        olderBooking.setStatus(BookingStatus.APPROVED);
+        olderBooking.setItem(item2);
+        olderBooking.setStart(end.minusDays(5));
+        olderBooking.setEnd(end.minusDays(4));
+
+        em.persist(user);
+        em.persist(user2);
+        em.persist(item);
+        em.persist(item2);
+        em.persist(booking);
+        em.persist(sameEndBooking);
+        em.persist(olderBooking);
+
+        BookingFilter filter = BookingFilter.builder().ownerId(user.getId()).state(BookingState.PAST).build();
+        List<BookingOutputDto> firstPage = bookingRepository.findBookings(filter, null, 0, 2);
+        BookingOutputDto last = firstPage.get(firstPage.size() - 1);
+        List<BookingOutputDto> secondPage = bookingRepository.findBookings(filter,
+                new KeysetCursor(last.getEnd(), last.getId()), 0, 2);
+        List<BookingOutputDto> offsetPage = bookingRepository.findBookings(filter, null, 2, 2);
+
+        Assertions.assertEquals(List.of(dto(sameEndBooking), dto(booking)), firstPage);
+        Assertions.assertEquals(List.of(dto(olderBooking)), secondPage);
+        Assertions.assertEquals(secondPage, offsetPage);
+        Assertions.assertTrue(bookingRepository.findBookings(BookingFilter.builder().bookerId(user.getId()).build(),
+                null, 0, 2).isEmpty());
+    }
+
+    @DisplayName("Проверка получения бронирований по сочетанию условий")
+    @Test
+    void findBookingsByCombinedFilter() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        booking.setStart(start);
+        booking.setEnd(start.plusDays(2));
+        Booking approvedBooking = new Booking();
+        approvedBooking.setBooker(user2);
+        approvedBooking.setStatus(BookingStatus.APPROVED);
+        approvedBooking.setItem(item);
+        approvedBooking.setStart(start);
+        approvedBooking.setEnd(start.plusDays(2));
+        Booking laterBooking = new Booking();
+        laterBooking.setBooker(user2);
+        laterBooking.setStatus(BookingStatus.APPROVED);
+        laterBooking.setItem(item);
+        laterBooking.setStart(start.plusDays(10));
+        laterBooking.setEnd(start.plusDays(11));
+
+        em.persist(user);
+        em.persist(user2);
+        em.persist(item);
+        em.persist(item2);
+        em.persist(booking);
+        em.persist(approvedBooking);
+        em.persist(laterBooking);
+
+        BookingFilter filter = BookingFilter.builder()
+                .ownerId(user.getId())
+                .state(BookingState.FUTURE)
+                .statuses(EnumSet.of(BookingStatus.APPROVED, BookingStatus.REJECTED))
+                .itemIds(List.of(item.getId(), item2.getId()))
+                .rangeStart(start.plusDays(1))
+                .rangeEnd(start.plusDays(5))
+                .build();
+        Assertions.assertEquals(List.of(dto(approvedBooking)), bookingRepository.findBookings(filter, null, 0, 10));
+    }
+
+    private static BookingOutputDto dto(Booking booking) {
+        return new BookingOutputDto(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                booking.getItem().getId(), booking.getItem().getName(), booking.getBooker().getId(),
+                booking.getBooker().getName());
     }
-}
\ No newline at end of file
+}
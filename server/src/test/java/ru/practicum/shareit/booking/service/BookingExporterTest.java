@@ -0,0 +1,117 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.enums.BookingExportFormat;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingExporterTest {
+
+    private final BookingExporter bookingExporter;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private User owner;
+    private User booker;
+    private Booking first;
+    private Booking second;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(user("owner"));
+            booker = userRepository.save(user("booker"));
+            User stranger = userRepository.save(user("stranger"));
+            Item drill = itemRepository.save(new Item(null, owner, "Дрель, ударная", "С \"насадками\"", true,
+                    null));
+            Item saw = itemRepository.save(new Item(null, stranger, "Пила", "Ручная", true, null));
+            first = bookingRepository.save(booking(drill, start, BookingStatus.APPROVED));
+            second = bookingRepository.save(booking(drill, start.plusDays(1), BookingStatus.WAITING));
+            bookingRepository.save(booking(saw, start, BookingStatus.WAITING));
+        });
+    }
+
+    @DisplayName("Выгрузка в CSV содержит только бронирования владельца, новые первыми")
+    @Test
+    void exportCsv() throws Exception {
+        String csv = export(BookingExportFormat.CSV);
+
+        Assertions.assertEquals("id,itemId,itemName,bookerId,start,end,status\n"
+                + second.getId() + "," + second.getItem().getId() + ",\"Дрель, ударная\"," + booker.getId()
+                + ",2030-01-02T12:00,2030-01-02T14:00,WAITING\n"
+                + first.getId() + "," + first.getItem().getId() + ",\"Дрель, ударная\"," + booker.getId()
+                + ",2030-01-01T12:00,2030-01-01T14:00,APPROVED\n", csv);
+    }
+
+    @DisplayName("Выгрузка в NDJSON пишет одно бронирование в строке")
+    @Test
+    void exportNdjson() throws Exception {
+        String[] lines = export(BookingExportFormat.NDJSON).split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        JsonNode line = objectMapper.readTree(lines[1]);
+        Assertions.assertEquals(first.getId(), line.get("id").asLong());
+        Assertions.assertEquals("Дрель, ударная", line.get("itemName").asText());
+        Assertions.assertEquals("2030-01-01T12:00:00", line.get("start").asText());
+        Assertions.assertEquals("APPROVED", line.get("status").asText());
+    }
+
+    @DisplayName("Выгрузка для несуществующего пользователя")
+    @Test
+    void exportForUnknownUser() {
+        Assertions.assertThrows(NotFoundException.class, () -> bookingExporter.export(100L,
+                BookingExportFormat.CSV));
+    }
+
+    private String export(BookingExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExporter.export(owner.getId(), format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Booking booking(Item item, LocalDateTime start, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStart(start);
+        booking.setEnd(start.plusHours(2));
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@email.ru");
+        return user;
+    }
+}
@@ -0,0 +1,243 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingInterval;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exceptions.ConflictException;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexUnitTest {
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    private BookingRepository bookingRepository;
+    private Item item;
+    private LocalDateTime start;
+    private final AtomicLong ids = new AtomicLong(100);
+    private final UnaryOperator<Booking> save = booking -> {
+        booking.setId(ids.incrementAndGet());
+        return booking;
+    };
+
+    @BeforeEach
+    void setUp() {
+        item = new Item();
+        item.setId(1L);
+        start = LocalDateTime.now().plusDays(1);
+        bookingIntervalIndex = new BookingIntervalIndex(bookingRepository, Duration.ofHours(1));
+    }
+
+    @DisplayName("Проверка пересечения с интервалами, загруженными из базы данных")
+    @Test
+    void overlapsLoadedIntervalsTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(List.of(new BookingInterval(2L, start.plusHours(10), start.plusHours(12)),
+                        new BookingInterval(1L, start, start.plusHours(8))));
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start.plusHours(7),
+                        start.plusHours(9))),
+                () -> Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start.minusHours(1),
+                        start.plusHours(20))),
+                () -> Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start.plusHours(8),
+                        start.plusHours(10))),
+                () -> Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start.minusHours(2), start)),
+                () -> Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start.plusHours(12),
+                        start.plusHours(13))));
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection());
+    }
+
+    @DisplayName("Проверка учёта длинного интервала, начавшегося раньше соседних")
+    @Test
+    void overlapsLongIntervalTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(List.of(new BookingInterval(1L, start, start.plusDays(10)),
+                        new BookingInterval(2L, start.plusHours(1), start.plusHours(2))));
+
+        Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start.plusDays(5), start.plusDays(6)));
+    }
+
+    @DisplayName("Проверка бронирования пересекающихся дат")
+    @Test
+    void reserveOverlappingTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+
+        Booking first = bookingIntervalIndex.reserve(booking(start, start.plusHours(4)), save);
+
+        Assertions.assertThrows(ConflictException.class,
+                () -> bookingIntervalIndex.reserve(booking(start.plusHours(3), start.plusHours(5)), save));
+        Assertions.assertNotNull(bookingIntervalIndex.reserve(booking(start.plusHours(4), start.plusHours(5)), save));
+        Assertions.assertEquals(101L, first.getId());
+    }
+
+    @DisplayName("Проверка освобождения дат после отклонения бронирования")
+    @Test
+    void statusChangedRejectedTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+        Booking booking = bookingIntervalIndex.reserve(booking(start, start.plusHours(4)), save);
+
+        booking.setStatus(BookingStatus.REJECTED);
+        bookingIntervalIndex.statusChanged(booking);
+
+        Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start, start.plusHours(4)));
+    }
+
+    @DisplayName("Проверка пересечения при возврате отклонённого бронирования в одобренные")
+    @Test
+    void statusChangedRejectedToApprovedTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+        Booking rejected = bookingIntervalIndex.reserve(booking(start, start.plusHours(4)), save);
+        rejected.setStatus(BookingStatus.REJECTED);
+        bookingIntervalIndex.statusChanged(rejected);
+        bookingIntervalIndex.reserve(booking(start.plusHours(2), start.plusHours(6)), save);
+
+        rejected.setStatus(BookingStatus.APPROVED);
+
+        Assertions.assertThrows(ConflictException.class, () -> bookingIntervalIndex.statusChanged(rejected));
+        Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start, start.plusHours(2)));
+    }
+
+    @DisplayName("Проверка перестроения индекса из базы данных")
+    @Test
+    void rebuildTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>())
+                .thenReturn(List.of(new BookingInterval(1L, start, start.plusHours(4))));
+
+        Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start, start.plusHours(1)));
+        bookingIntervalIndex.rebuild(1L);
+        Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start, start.plusHours(1)));
+    }
+
+    @DisplayName("Проверка перестроения индекса до фиксации бронирования")
+    @Test
+    void rebuildDuringReserveKeepsUncommittedTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingIntervalIndex.reserve(booking(start, start.plusHours(4)), save);
+            bookingIntervalIndex.rebuild(1L);
+            bookingIntervalIndex.invalidateAll();
+
+            Assertions.assertThrows(ConflictException.class,
+                    () -> bookingIntervalIndex.reserve(booking(start.plusHours(1), start.plusHours(2)), save));
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start, start.plusHours(4)));
+        bookingIntervalIndex.rebuild(1L);
+        Assertions.assertFalse(bookingIntervalIndex.overlaps(1L, start, start.plusHours(4)));
+    }
+
+    @DisplayName("Проверка перестроения индекса после фиксации бронирования")
+    @Test
+    void rebuildAfterCommitTest() {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>())
+                .thenReturn(new ArrayList<>())
+                .thenReturn(List.of(new BookingInterval(101L, start, start.plusHours(4))));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingIntervalIndex.reserve(booking(start, start.plusHours(4)), save);
+            bookingIntervalIndex.rebuild(1L);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start, start.plusHours(1)));
+        bookingIntervalIndex.rebuild(1L);
+        Assertions.assertTrue(bookingIntervalIndex.overlaps(1L, start, start.plusHours(1)));
+    }
+
+    @DisplayName("Проверка выгрузки интервалов вещи, к которой не обращались")
+    @Test
+    void expireAfterAccessTest() {
+        bookingIntervalIndex = new BookingIntervalIndex(bookingRepository, Duration.ZERO);
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+
+        bookingIntervalIndex.overlaps(1L, start, start.plusHours(1));
+        bookingIntervalIndex.overlaps(1L, start, start.plusHours(1));
+
+        Mockito.verify(bookingRepository, Mockito.times(2))
+                .findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection());
+    }
+
+    @DisplayName("Проверка параллельного бронирования одних и тех же дат")
+    @Test
+    void reserveConcurrentlyTest() throws Exception {
+        Mockito.when(bookingRepository.findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection()))
+                .thenReturn(new ArrayList<>());
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            LocalDateTime bookingStart = start.plusMinutes(i);
+            futures.add(executor.submit(() -> {
+                ready.await();
+                try {
+                    bookingIntervalIndex.reserve(booking(bookingStart, bookingStart.plusHours(1)), save);
+                } catch (ConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(threads - 1, conflicts.get());
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findIntervalsByItemIdAndStatusIn(Mockito.eq(1L), Mockito.anyCollection());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Booking booking(LocalDateTime bookingStart, LocalDateTime bookingEnd) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setStart(bookingStart);
+        booking.setEnd(bookingEnd);
+        booking.setStatus(BookingStatus.WAITING);
+        return booking;
+    }
+}
@@ -5,20 +5,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingFilter;
+import ru.practicum.shareit.booking.repository.BookingJdbcReader;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.configuration.ReadPaths;
 import ru.practicum.shareit.exceptions.BadRequestException;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -27,6 +34,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplUnitTest {
@@ -38,6 +46,12 @@ class BookingServiceImplUnitTest {
     private ItemRepository itemRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    private BookingJdbcReader bookingJdbcReader;
+    @Mock
+    private ReadPaths readPaths;
     private Item item;
     private Item item2;
     private Item item3;
@@ -108,7 +122,29 @@ class BookingServiceImplUnitTest {
         Mockito.when(itemRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(item3));
         Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
         Mockito.when(bookingRepository.save(Mockito.any())).thenReturn(booking);
-        Assertions.assertEquals(item, bookingService.createBooking(bookingInputDto, 2L).getItem());
+        Mockito.when(bookingIntervalIndex.reserve(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> invocation.<UnaryOperator<Booking>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
+        Assertions.assertEquals(new BookingOutputDto.ItemShort(item3.getId(), item3.getName()),
+                bookingService.createBooking(bookingInputDto, 2L).getItem());
+    }
+
+    @DisplayName("Проверка создания бронирования вещи на занятые даты")
+    @Test
+    void createBookingWithOverlappingDatesTest() {
+        BookingInputDto bookingInputDto = BookingInputDto.builder()
+                .start(LocalDateTime.now().plusHours(1))
+                .end(LocalDateTime.now().plusHours(5))
+                .itemId(3L)
+                .build();
+
+        Mockito.when(itemRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(item3));
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(bookingIntervalIndex.reserve(Mockito.any(), Mockito.any()))
+                .thenThrow(new ConflictException("Вещь уже забронирована на выбранные даты."));
+        Assertions.assertThrows(ConflictException.class,
+                () -> bookingService.createBooking(bookingInputDto, 2L));
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any());
     }
 
     @DisplayName("Проверка подтверждения несуществующего бронирования")
@@ -133,7 +169,7 @@ class BookingServiceImplUnitTest {
                 .thenReturn(Optional.of(booking));
         Mockito.when(bookingRepository.save(booking)).thenReturn(booking);
 
-        Booking result = bookingService.setApproved(ownerId, bookingId, approved);
+        BookingOutputDto result = bookingService.setApproved(ownerId, bookingId, approved);
 
         Assertions.assertEquals(BookingStatus.APPROVED, result.getStatus());
         Mockito.verify(bookingRepository, Mockito.times(1)).save(booking);
@@ -153,10 +189,11 @@ class BookingServiceImplUnitTest {
                 .thenReturn(Optional.of(booking));
         Mockito.when(bookingRepository.save(booking)).thenReturn(booking);
 
-        Booking result = bookingService.setApproved(ownerId, bookingId, approved);
+        BookingOutputDto result = bookingService.setApproved(ownerId, bookingId, approved);
 
         Assertions.assertEquals(BookingStatus.REJECTED, result.getStatus());
         Mockito.verify(bookingRepository, Mockito.times(1)).save(booking);
+        Mockito.verify(bookingIntervalIndex).statusChanged(booking);
     }
 
     @Test
@@ -176,17 +213,34 @@ class BookingServiceImplUnitTest {
         Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any());
     }
 
+    @Test
+    @DisplayName("Проверка исключения при попытке одобрить отклонённое бронирование")
+    void setApprovedBookingAlreadyRejected() {
+        Long ownerId = 1L;
+        Long bookingId = 2L;
+        Booking booking = new Booking();
+        booking.setStatus(BookingStatus.REJECTED);
+
+        Mockito.when(bookingRepository.findBookingByIdAndItemOwnerId(bookingId, ownerId)).thenReturn(Optional
+                .of(booking));
+
+        Assertions.assertThrows(BadRequestException.class, () -> bookingService
+                .setApproved(ownerId, bookingId, true));
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verifyNoInteractions(bookingIntervalIndex);
+    }
+
     @Test
     @DisplayName("Получение существующего бронирования")
     void getBookingBookingExists() {
         Long userId = 1L;
         Long bookingId = 2L;
 
-        Booking booking = new Booking();
+        BookingOutputDto booking = booking(bookingId);
 
-        Mockito.when(bookingRepository.findByIdWithItemAndBooker(bookingId, userId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findOutputDtoById(bookingId, userId)).thenReturn(Optional.of(booking));
 
-        Booking result = bookingService.getBooking(userId, bookingId);
+        BookingOutputDto result = bookingService.getBooking(userId, bookingId);
 
         Assertions.assertEquals(booking, result);
     }
@@ -198,7 +252,7 @@ class BookingServiceImplUnitTest {
         Long userId = 1L;
         Long bookingId = 2L;
 
-        Mockito.when(bookingRepository.findByIdWithItemAndBooker(bookingId, userId)).thenReturn(Optional.empty());
+        Mockito.when(bookingRepository.findOutputDtoById(bookingId, userId)).thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> bookingService.getBooking(userId, bookingId));
     }
@@ -206,327 +260,140 @@ class BookingServiceImplUnitTest {
     @Test
     @DisplayName("Получение всех бронирований")
     void getAllBookingsAllState() {
-        Long userId = 1L;
-        String state = "ALL";
-        Long from = 0L;
-        Long size = 10L;
+        List<BookingOutputDto> bookingList = List.of(booking(1L));
 
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingRepository.findBookings(BookingFilter.builder().bookerId(1L).build(), null, 0, 10))
+                .thenReturn(bookingList);
 
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByBookerId(userId, PageRequest.of(0, 10,
-                        Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
+        Assertions.assertEquals(bookingList, bookingService.getAllBookings(1L, "ALL", 0L, 10L));
     }
 
-    @Test
-    @DisplayName("Получение текущих бронирований")
-    void getAllBookingsCurrentState() {
-        Long userId = 1L;
-        String state = "CURRENT";
-        Long from = 0L;
-        Long size = 10L;
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    @DisplayName("Получение бронирований пользователя по состоянию")
+    void getAllBookingsByState(BookingState state) {
+        List<BookingOutputDto> bookingList = new ArrayList<>();
 
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingRepository.findBookings(BookingFilter.builder().bookerId(1L).state(state).build(),
+                        null, 20, 10))
+                .thenReturn(bookingList);
 
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllCurrentByUserIdAndSortByDesc(userId, PageRequest.of(0, 10,
-                        Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
+        Assertions.assertEquals(bookingList, bookingService.getAllBookings(1L, state.name(), 25L, 10L));
     }
 
     @Test
     @DisplayName("Получение бронирований для несуществующего пользователя")
     void getAllBookingsUserNotFound() {
-        Long userId = 1L;
-        String state = "ALL";
-        Long from = 0L;
-        Long size = 10L;
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        Assertions.assertThrows(NotFoundException.class, () -> bookingService.getAllBookings(userId, state, from, size));
+        Assertions.assertThrows(NotFoundException.class, () -> bookingService.getAllBookings(1L, "ALL", 0L, 10L));
+        Mockito.verifyNoInteractions(bookingRepository);
     }
 
     @Test
     @DisplayName("Получение пустого списка бронирований")
     void getAllBookingsBookingsNotFound() {
-        Long userId = 1L;
-        String state = "ALL";
-        Long from = 0L;
-        Long size = 10L;
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingRepository.findBookings(Mockito.any(), Mockito.isNull(), Mockito.eq(0), Mockito.eq(10)))
+                .thenReturn(List.of());
 
-        User user = new User();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByBookerId(userId, PageRequest.of(0, 10,
-                        Sort.by("end").descending())))
-                .thenReturn(Optional.empty());
-
-        Assertions.assertThrows(NotFoundException.class, () -> bookingService.getAllBookings(userId, state, from, size));
+        Assertions.assertTrue(bookingService.getAllBookings(1L, "ALL", 0L, 10L).isEmpty());
     }
 
     @Test
     @DisplayName("Получение бронирований с неизвестным состоянием")
     void getAllBookingsUnknownState() {
-        Long userId = 1L;
-        String state = "UNSUPPORTED_STATUS";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         Assertions.assertThrows(BadRequestException.class, () -> bookingService
-                .getAllBookings(userId, state, from, size));
-    }
-
-    @Test
-    @DisplayName("Получение прошлых бронирований")
-    void getAllBookingsPastState() {
-        Long userId = 1L;
-        String state = "PAST";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllPastByUserIdAndSortByDesc(userId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
-    }
-
-    @Test
-    @DisplayName("Получение будущих бронирований")
-    void getAllBookingsFutureState() {
-        Long userId = 1L;
-        String state = "FUTURE";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllFutureByUserIdAndSortByDesc(userId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
-    }
-
-    @Test
-    @DisplayName("Получение ожидающих бронирований")
-    void getAllBookingsWaitingState() {
-        Long userId = 1L;
-        String state = "WAITING";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByStatusAndBookerIdOrderByEndDesc(BookingStatus.WAITING, userId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
-    }
-
-    @Test
-    @DisplayName("Получение отклоненных бронирований")
-    void getAllBookingsRejectedState() {
-        Long userId = 1L;
-        String state = "REJECTED";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByStatusAndBookerIdOrderByEndDesc(BookingStatus.REJECTED, userId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllBookings(userId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
-    }
-
-    @Test
-    @DisplayName("Получение текущих бронирований владельца")
-    void getAllOwnerBookings_CurrentState() {
-        Long ownerId = 1L;
-        String state = "CURRENT";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllCurrentByOwnerIdAndSortByDesc(ownerId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllOwnerBookings(ownerId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
+                .getAllBookings(1L, "UNSUPPORTED_STATUS", 0L, 10L));
+        Mockito.verifyNoInteractions(bookingRepository);
     }
 
-    @Test
-    @DisplayName("Получение прошлых бронирований владельца")
-    void getAllOwnerBookingsPastState() {
-        Long ownerId = 1L;
-        String state = "PAST";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    @DisplayName("Получение бронирований владельца по состоянию")
+    void getAllOwnerBookingsByState(BookingState state) {
+        List<BookingOutputDto> bookingList = new ArrayList<>();
 
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllPastByOwnerIdAndSortByDesc(ownerId, PageRequest.of(0, 10,
-                        Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingRepository.findBookings(BookingFilter.builder().ownerId(1L).state(state).build(),
+                        null, 0, 10))
+                .thenReturn(bookingList);
 
-        List<Booking> result = bookingService.getAllOwnerBookings(ownerId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
+        Assertions.assertEquals(bookingList, bookingService.getAllOwnerBookings(1L, state.name(), 0L, 10L));
     }
 
-
     @Test
     @DisplayName("Получение бронирований владельца с неизвестным состоянием")
     void getAllOwnerBookingsUnknownState() {
-        Long ownerId = 1L;
-        String state = "UNKNOWN";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         Assertions.assertThrows(BadRequestException.class, () -> bookingService
-                .getAllOwnerBookings(ownerId, state, from, size));
+                .getAllOwnerBookings(1L, "UNKNOWN", 0L, 10L));
     }
 
     @Test
     @DisplayName("Получение бронирований владельца, когда пользователь не найден")
     void getAllOwnerBookingsUserNotFound() {
-        Long ownerId = 1L;
-        String state = "ALL";
-        Long from = 0L;
-        Long size = 10L;
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.empty());
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         Assertions.assertThrows(NotFoundException.class, () -> bookingService
-                .getAllOwnerBookings(ownerId, state, from, size));
+                .getAllOwnerBookings(1L, "ALL", 0L, 10L));
     }
 
     @Test
-    @DisplayName("Получение бронирований владельца, когда список бронирований пуст")
-    void getAllOwnerBookingsNoBookingsFound() {
-        Long ownerId = 1L;
-        String state = "ALL";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByItemOwnerIdOrderByEndDesc(ownerId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.empty());
-
-        Assertions.assertThrows(NotFoundException.class, () -> bookingService
-                .getAllOwnerBookings(ownerId, state, from, size));
+    @DisplayName("Получение бронирований владельца через JDBC")
+    void getAllOwnerBookingsByJdbc() {
+        List<BookingOutputDto> bookingList = List.of(booking(1L));
+
+        Mockito.when(readPaths.getOwnerBookings()).thenReturn(ReadPaths.ReadPath.JDBC);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingJdbcReader.findBookings(BookingFilter.builder().ownerId(1L).build(), null, 10, 10))
+                .thenReturn(bookingList);
+
+        Assertions.assertEquals(bookingList, bookingService.getAllOwnerBookings(1L, "ALL", 10L, 10L));
+        Mockito.verify(bookingRepository, Mockito.never()).findBookings(Mockito.any(), Mockito.any(),
+                Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
-    @DisplayName("Получение будущих бронирований владельца")
-    void getAllOwnerBookingsFutureState() {
-        Long ownerId = 1L;
-        String state = "FUTURE";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findAllFutureByOwnerIdAndSortByDesc(ownerId, PageRequest.of(0, 10,
-                Sort.by("end").descending()))).thenReturn(Optional.of(bookingList));
+    @DisplayName("Получение бронирований пользователя по курсору")
+    void getAllBookingsByCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), 5L);
+        List<BookingOutputDto> bookingList = List.of(booking(1L));
 
-        List<Booking> result = bookingService.getAllOwnerBookings(ownerId, state, from, size);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(bookingRepository.findBookings(BookingFilter.builder().bookerId(1L).state(BookingState.PAST)
+                        .build(), cursor, 0, 10))
+                .thenReturn(bookingList);
 
-        Assertions.assertEquals(bookingList, result);
+        Assertions.assertEquals(bookingList, bookingService.getAllBookings(1L, "PAST", cursor, 10L));
     }
 
     @Test
-    @DisplayName("Получение ожидающих бронирований владельца")
-    void getAllOwnerBookingsWaitingState() {
-        Long ownerId = 1L;
-        String state = "WAITING";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
-
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByStatusAndItemOwnerIdOrderByEndDesc(BookingStatus.WAITING, ownerId,
-                        PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
+    @DisplayName("Получение бронирований владельца по курсору с неизвестным состоянием")
+    void getAllOwnerBookingsByCursorUnknownState() {
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-        List<Booking> result = bookingService.getAllOwnerBookings(ownerId, state, from, size);
-
-        Assertions.assertEquals(bookingList, result);
+        Assertions.assertThrows(BadRequestException.class, () -> bookingService
+                .getAllOwnerBookings(1L, "UNKNOWN", (KeysetCursor) null, 10L));
+        Mockito.verifyNoInteractions(bookingRepository);
     }
 
     @Test
-    @DisplayName("Получение отклоненных бронирований владельца")
-    void getAllOwnerBookingsRejectedState() {
-        Long ownerId = 1L;
-        String state = "REJECTED";
-        Long from = 0L;
-        Long size = 10L;
-
-        User user = new User();
-        List<Booking> bookingList = new ArrayList<>();
+    @DisplayName("Получение бронирований владельца по курсору, когда пользователь не найден")
+    void getAllOwnerBookingsByCursorUserNotFound() {
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
-        Mockito.when(userRepository.findById(ownerId)).thenReturn(Optional.of(user));
-        Mockito.when(bookingRepository.findBookingsByStatusAndItemOwnerIdOrderByEndDesc(BookingStatus.REJECTED,
-                        ownerId, PageRequest.of(0, 10, Sort.by("end").descending())))
-                .thenReturn(Optional.of(bookingList));
-
-        List<Booking> result = bookingService.getAllOwnerBookings(ownerId, state, from, size);
+        Assertions.assertThrows(NotFoundException.class, () -> bookingService
+                .getAllOwnerBookings(1L, "ALL", (KeysetCursor) null, 10L));
+    }
 
-        Assertions.assertEquals(bookingList, result);
+    private BookingOutputDto booking(Long id) {
+        return new BookingOutputDto(id, null, null, BookingStatus.WAITING, item.getId(), item.getName(), 2L,
+                "testBooker");
     }
-}
\ No newline at end of file
+}
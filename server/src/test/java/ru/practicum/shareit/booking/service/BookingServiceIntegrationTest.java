@@ -12,8 +12,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingInputDto;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
 import ru.practicum.shareit.booking.enums.BookingStatus;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
@@ -67,7 +68,38 @@ class BookingServiceIntegrationTest {
         userRepository.save(user2);
         itemRepository.save(item);
 
-        Assertions.assertEquals(item, bookingService.createBooking(bookingInputDto, 2L).getItem());
+        Assertions.assertEquals(item.getId(), bookingService.createBooking(bookingInputDto, 2L).getItem().getId());
+    }
+
+    @DisplayName("Проверка создания пересекающегося бронирования вещи")
+    @Test
+    void createOverlappingBookingTest() {
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        BookingInputDto bookingInputDto = BookingInputDto.builder()
+                .start(start)
+                .end(start.plusHours(4))
+                .itemId(1L)
+                .status(BookingStatus.WAITING)
+                .build();
+        BookingInputDto overlapping = BookingInputDto.builder()
+                .start(start.plusHours(3))
+                .end(start.plusHours(6))
+                .itemId(1L)
+                .status(BookingStatus.WAITING)
+                .build();
+        BookingInputDto adjacent = BookingInputDto.builder()
+                .start(start.plusHours(4))
+                .end(start.plusHours(6))
+                .itemId(1L)
+                .status(BookingStatus.WAITING)
+                .build();
+        userRepository.save(user);
+        userRepository.save(user2);
+        itemRepository.save(item);
+        bookingService.createBooking(bookingInputDto, 2L);
+
+        Assertions.assertThrows(ConflictException.class, () -> bookingService.createBooking(overlapping, 2L));
+        Assertions.assertEquals(item.getId(), bookingService.createBooking(adjacent, 2L).getItem().getId());
     }
 
     @Test
@@ -82,7 +114,7 @@ class BookingServiceIntegrationTest {
         userRepository.save(user2);
         itemRepository.save(item);
         bookingService.createBooking(bookingInputDto, 2L);
-        Assertions.assertEquals(item, bookingService.getBooking(2L, 1L).getItem());
+        Assertions.assertEquals(item.getId(), bookingService.getBooking(2L, 1L).getItem().getId());
     }
 
     @Test
@@ -126,11 +158,11 @@ class BookingServiceIntegrationTest {
         bookingService.createBooking(bookingInputDto2, 2L);
         bookingService.setApproved(user.getId(), 2L, true);
 
-        List<Booking> allBookings = bookingService.getAllBookings(2L, "ALL", 0L, 4L);
+        List<BookingOutputDto> allBookings = bookingService.getAllBookings(2L, "ALL", 0L, 4L);
         allBookings.sort((b, b2) -> Math.toIntExact(b.getId() - b2.getId()));
         Assertions.assertAll("должны вернуться нужные предметы в бронированиях",
-                () -> Assertions.assertEquals(item, allBookings.get(0).getItem()),
-                () -> Assertions.assertEquals(item2, allBookings.get(1).getItem()));
+                () -> Assertions.assertEquals(item.getId(), allBookings.get(0).getItem().getId()),
+                () -> Assertions.assertEquals(item2.getId(), allBookings.get(1).getItem().getId()));
     }
 
     @DisplayName("Просмотр бронирований владельцем бронируемого предмета")
@@ -157,10 +189,10 @@ class BookingServiceIntegrationTest {
         bookingService.createBooking(bookingInputDto2, 2L);
         bookingService.setApproved(user.getId(), 2L, true);
 
-        List<Booking> allBookings = bookingService.getAllOwnerBookings(1L, "ALL", 0L, 4L);
+        List<BookingOutputDto> allBookings = bookingService.getAllOwnerBookings(1L, "ALL", 0L, 4L);
         allBookings.sort((b, b2) -> Math.toIntExact(b.getId() - b2.getId()));
         Assertions.assertAll("должны вернуться нужные предметы в бронированиях",
-                () -> Assertions.assertEquals(item, allBookings.get(0).getItem()),
-                () -> Assertions.assertEquals(item2, allBookings.get(1).getItem()));
+                () -> Assertions.assertEquals(item.getId(), allBookings.get(0).getItem().getId()),
+                () -> Assertions.assertEquals(item2.getId(), allBookings.get(1).getItem().getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.configuration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EtagConfigTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @DisplayName("Повторный GET с актуальным ETag получает 304 без тела")
+    @Test
+    void conditionalGetReturnsNotModified() throws Exception {
+        MvcResult first = mvc.perform(MockMvcRequestBuilders.get("/users"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        Assertions.assertFalse(etag.startsWith("W/"));
+
+        MvcResult second = mvc.perform(MockMvcRequestBuilders.get("/users").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        Assertions.assertEquals(0, second.getResponse().getContentAsByteArray().length);
+
+        mvc.perform(MockMvcRequestBuilders.get("/users").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @DisplayName("Потоковая выгрузка отдаётся без ETag")
+    @Test
+    void exportIsNotBufferedForEtag() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"owner\",\"email\":\"owner@email.ru\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        MvcResult export = mvc.perform(MockMvcRequestBuilders.get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(MockMvcRequestBuilders.asyncDispatch(export))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(MockMvcResultMatchers.content().string("id,itemId,itemName,bookerId,start,end,status\n"));
+    }
+}
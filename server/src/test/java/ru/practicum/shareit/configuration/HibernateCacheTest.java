@@ -0,0 +1,198 @@
+package ru.practicum.shareit.configuration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class HibernateCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User author;
+    private ItemRequest request;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(user("owner"));
+            author = userRepository.save(user("author"));
+            request = new ItemRequest();
+            request.setDescription("Нужна дрель");
+            request.setRequester(author);
+            request.setCreated(LocalDateTime.now());
+            request = requestRepository.save(request);
+            item = itemRepository.save(new Item(null, owner, "Дрель", "Ударная", true, request));
+        });
+    }
+
+    @DisplayName("Повторная загрузка сущностей выполняется без запросов к базе")
+    @Test
+    void entitiesAreLoadedFromSecondLevelCache() {
+        Assertions.assertEquals("author", requesterName());
+        Assertions.assertEquals("owner", ownerName());
+        statistics.clear();
+
+        Assertions.assertEquals("author", requesterName());
+        Assertions.assertEquals("owner", ownerName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(4, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @DisplayName("Чтение во время обновления не возвращает в кэш старое состояние вещи")
+    @Test
+    void readDuringUpdateDoesNotCacheStaleItem() throws Exception {
+        Assertions.assertEquals("Дрель", itemName());
+        CountDownLatch flushed = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> update = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Item stored = itemRepository.findById(item.getId()).orElseThrow();
+                stored.setName("Дрель ударная");
+                itemRepository.saveAndFlush(stored);
+                flushed.countDown();
+                await(read);
+            }));
+            Assertions.assertTrue(flushed.await(10, TimeUnit.SECONDS));
+            statistics.clear();
+
+            Assertions.assertEquals("Дрель", itemName());
+            Assertions.assertEquals(0, statistics.getSecondLevelCachePutCount());
+            read.countDown();
+            update.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals("Дрель ударная", itemName());
+        statistics.clear();
+        Assertions.assertEquals("Дрель ударная", itemName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("Комментарии вещи берутся из кэша запросов до добавления нового")
+    @Test
+    void commentsQueryIsCachedUntilCommentAdded() {
+        addComment("Отличная дрель");
+        Assertions.assertEquals(List.of("author"), commentAuthors());
+        statistics.clear();
+
+        Assertions.assertEquals(List.of("author"), commentAuthors());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getQueryCacheHitCount());
+
+        addComment("Не понравилась");
+        statistics.clear();
+
+        Assertions.assertEquals(List.of("author", "author"), commentAuthors());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("Вещи по запросам берутся из кэша запросов до добавления новой")
+    @Test
+    void itemsByRequestsQueryIsCachedUntilItemAdded() {
+        itemRepository.findAllByRequests(List.of(request.getId()));
+        statistics.clear();
+
+        List<ItemForRequestDto> items = itemRepository.findAllByRequests(List.of(request.getId()));
+        Assertions.assertEquals(1, items.size());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+
+        transactionTemplate.executeWithoutResult(status -> itemRepository.save(new Item(null, owner, "Перфоратор",
+                "Мощный", true, requestRepository.getReferenceById(request.getId()))));
+
+        Assertions.assertEquals(2, itemRepository.findAllByRequests(List.of(request.getId())).size());
+    }
+
+    private String requesterName() {
+        return transactionTemplate.execute(status -> requestRepository.findById(request.getId()).orElseThrow()
+                .getRequester().getName());
+    }
+
+    private String itemName() {
+        return transactionTemplate.execute(status -> itemRepository.findById(item.getId()).orElseThrow().getName());
+    }
+
+    private String ownerName() {
+        return transactionTemplate.execute(status -> itemRepository.getReferenceById(item.getId())
+                .getOwner().getName());
+    }
+
+    private List<String> commentAuthors() {
+        return transactionTemplate.execute(status -> commentRepository.findCommentDtosByItemId(item.getId()).stream()
+                .map(CommentDto::getAuthorName)
+                .collect(Collectors.toList()));
+    }
+
+    private void addComment(String text) {
+        transactionTemplate.executeWithoutResult(status -> commentRepository.save(Comment.builder()
+                .text(text)
+                .item(itemRepository.getReferenceById(item.getId()))
+                .author(userRepository.getReferenceById(author.getId()))
+                .created(LocalDateTime.now())
+                .build()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@email.ru");
+        return user;
+    }
+}
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.configuration;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.practicum.shareit.configuration.ReadPaths.ReadPath;
+
+/**
+ * Память на запрос и пропускная способность списков при чтении через JPA и через JDBC.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.transaction=WARN"
+})
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class ReadPathBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private final MockMvc mvc;
+    private final JdbcTemplate jdbcTemplate;
+    private final SwitchableReadPaths readPaths;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            users.add(new Object[]{i, "user" + i, "user" + i + "@email.ru"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            requests.add(new Object[]{i, "Нужна вещь " + i, i % 10 + 2, Timestamp.valueOf(now.minusHours(i))});
+            items.add(new Object[]{i, "Вещь " + i, i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, description, requestor_id, created) "
+                + "VALUES (?, ?, ?, ?)", requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id, request_id) "
+                + "VALUES (?, ?, 'Описание', TRUE, 1, ?)", items);
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            LocalDateTime start = now.plusHours(i - 500);
+            bookings.add(new Object[]{i, Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(2)),
+                    i % 100 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (?, ?, ?, ?, 2, 'APPROVED')", bookings);
+    }
+
+    @DisplayName("Списки: JPA против JDBC")
+    @Test
+    void compareReadPaths() throws Exception {
+        for (String[] request : List.of(new String[]{"/bookings?size=100", "2"},
+                new String[]{"/bookings/owner?size=100", "1"}, new String[]{"/requests/all?size=50", "1"},
+                new String[]{"/users", "1"})) {
+            for (ReadPath path : ReadPath.values()) {
+                readPaths.path = path;
+                measure(path, request[0], request[1]);
+            }
+        }
+    }
+
+    private void measure(ReadPath path, String url, String userId) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            get(url, userId);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            get(url, userId);
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("%-26s %-4s %8d bytes/request %8.0f requests/s%n", url, path,
+                (threads.getThreadAllocatedBytes(thread) - allocated) / ITERATIONS, ITERATIONS / seconds);
+    }
+
+    private void get(String url, String userId) throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get(url).header("X-Sharer-User-Id", userId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @TestConfiguration
+    static class ReadPathsConfig {
+
+        @Bean
+        @Primary
+        SwitchableReadPaths switchableReadPaths() {
+            return new SwitchableReadPaths();
+        }
+    }
+
+    static class SwitchableReadPaths extends ReadPaths {
+
+        private volatile ReadPath path = ReadPath.JPA;
+
+        SwitchableReadPaths() {
+            super(ReadPath.JPA, ReadPath.JPA, ReadPath.JPA, ReadPath.JPA);
+        }
+
+        @Override
+        public ReadPath getBookings() {
+            return path;
+        }
+
+        @Override
+        public ReadPath getOwnerBookings() {
+            return path;
+        }
+
+        @Override
+        public ReadPath getOtherRequests() {
+            return path;
+        }
+
+        @Override
+        public ReadPath getUsers() {
+            return path;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.configuration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingFilter;
+import ru.practicum.shareit.booking.repository.BookingJdbcReader;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.pagination.KeysetCursor;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.request.repository.RequestJdbcReader;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.repository.UserJdbcReader;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+/**
+ * JDBC-чтение возвращает то же, что и JPA: те же строки, в том же порядке.
+ */
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "shareit.read-path.other-requests=jpa"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReadPathsTest {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingRepository bookingRepository;
+    private final BookingJdbcReader bookingJdbcReader;
+    private final UserRepository userRepository;
+    private final UserJdbcReader userJdbcReader;
+    private final ItemRequestService itemRequestService;
+    private final RequestJdbcReader requestJdbcReader;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", i, "user" + i,
+                    "user" + i + "@email.ru");
+            jdbcTemplate.update("INSERT INTO requests (id, description, requestor_id, created) VALUES (?, ?, ?, ?)",
+                    i, "Нужна вещь " + i, i, Timestamp.valueOf(now.minusDays(i)));
+        }
+        for (int i = 1; i <= 8; i++) {
+            jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id, request_id) "
+                    + "VALUES (?, ?, 'Описание', TRUE, ?, ?)", i, "Вещь " + i, i % 2 + 1, i != 4 ? i % 3 + 1 : null);
+        }
+        BookingStatus[] statuses = BookingStatus.values();
+        for (int i = 1; i <= 20; i++) {
+            LocalDateTime start = now.plusDays(i - 10);
+            jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                            + "VALUES (?, ?, ?, ?, 3, ?)", i, Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusDays(i % 3 == 0 ? 0 : 2)), i % 4 + 1,
+                    statuses[i % statuses.length].name());
+        }
+    }
+
+    @DisplayName("Бронирования по всем состояниям, курсору и составному фильтру")
+    @Test
+    void bookingsAreTheSame() {
+        for (BookingState state : BookingState.values()) {
+            assertSameBookings(BookingFilter.builder().bookerId(3L).state(state).build(), null, 0, 5);
+            assertSameBookings(BookingFilter.builder().ownerId(1L).state(state).build(), null, 2, 5);
+        }
+        assertSameBookings(BookingFilter.builder().ownerId(2L).build(), new KeysetCursor(now, 12L), 0, 10);
+        assertSameBookings(BookingFilter.builder()
+                .itemIds(List.of(1L, 2L, 3L))
+                .statuses(EnumSet.of(BookingStatus.APPROVED, BookingStatus.WAITING))
+                .rangeStart(now.minusDays(5))
+                .rangeEnd(now.plusDays(5))
+                .build(), null, 0, 20);
+    }
+
+    @DisplayName("Пользователи")
+    @Test
+    void usersAreTheSame() {
+        Assertions.assertEquals(userRepository.findAllOutputDtos(), userJdbcReader.findAll());
+    }
+
+    @DisplayName("Запросы других пользователей с вещами")
+    @Test
+    void otherUsersRequestsAreTheSame() {
+        List<ItemRequestDtoWithItems> expected = itemRequestService.getItemRequestsInPages(1L, 0L, 10L);
+        List<ItemRequestDtoWithItems> actual = requestJdbcReader.findOtherUsersRequests(1L, 0, 10);
+
+        Assertions.assertEquals(List.of(3L, 2L), actual.stream()
+                .map(ItemRequestDtoWithItems::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(3, 2), actual.stream()
+                .map(request -> request.getItems().size())
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(1, requestJdbcReader.findOtherUsersRequests(1L, 1, 10).size());
+    }
+
+    private void assertSameBookings(BookingFilter filter, KeysetCursor cursor, int offset, int limit) {
+        List<BookingOutputDto> expected = transactionTemplate.execute(status ->
+                bookingRepository.findBookings(filter, cursor, offset, limit));
+        Assertions.assertEquals(expected, bookingJdbcReader.findBookings(filter, cursor, offset, limit),
+                filter::toString);
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.configuration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+/**
+ * Сборка запросов с вещами: 10 000 запросов по 5 вещей. Группировка за один проход против
+ * фильтрации всех вещей для каждого запроса. Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false",
+        "shareit.read-path.other-requests=jpa",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.transaction=WARN"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class RequestItemsAssemblyBenchmarkTest {
+
+    private static final int REQUESTS = 10_000;
+    private static final int ITEMS_PER_REQUEST = 5;
+    private static final int ITERATIONS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemRequestService itemRequestService;
+    private final ItemRepository itemRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@email.ru')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'requester', 'requester@email.ru')");
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= REQUESTS; i++) {
+            requests.add(new Object[]{i, "Нужна вещь " + i, Timestamp.valueOf(now.minusMinutes(i))});
+            for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                items.add(new Object[]{(i - 1) * ITEMS_PER_REQUEST + j + 1, i});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, description, requestor_id, created) "
+                + "VALUES (?, ?, 2, ?)", requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id, request_id) "
+                + "VALUES (?, 'Вещь', 'Описание', TRUE, 1, ?)", items);
+    }
+
+    @DisplayName("Запросы других пользователей с вещами")
+    @Test
+    void assembleRequestsWithItems() {
+        for (int i = 0; i < ITERATIONS / 2; i++) {
+            itemRequestService.getItemRequestsInPages(1L, 0L, (long) REQUESTS);
+        }
+        long started = System.nanoTime();
+        List<ItemRequestDtoWithItems> result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = itemRequestService.getItemRequestsInPages(1L, 0L, (long) REQUESTS);
+        }
+        System.out.printf("service    %8.2f ms/call%n", (System.nanoTime() - started) / 1_000_000.0 / ITERATIONS);
+
+        Assertions.assertEquals(REQUESTS, result.size());
+        for (int i = 0; i < REQUESTS; i++) {
+            Assertions.assertEquals(REQUESTS - i, (long) result.get(i).getId());
+            Assertions.assertEquals(ITEMS_PER_REQUEST, result.get(i).getItems().size());
+        }
+
+        List<Long> requestsId = result.stream()
+                .map(ItemRequestDtoWithItems::getId)
+                .collect(Collectors.toList());
+        List<ItemForRequestDto> items = itemRepository.findAllByRequests(requestsId);
+        started = System.nanoTime();
+        Map<Long, List<ItemForRequestDto>> grouped = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            grouped = items.stream().collect(Collectors.groupingBy(ItemForRequestDto::getRequestId));
+            for (Long requestId : requestsId) {
+                grouped.getOrDefault(requestId, List.of());
+            }
+        }
+        System.out.printf("grouping   %8.2f ms/page%n", (System.nanoTime() - started) / 1_000_000.0 / ITERATIONS);
+
+        started = System.nanoTime();
+        int filtered = 0;
+        for (Long requestId : requestsId) {
+            filtered += items.stream()
+                    .filter(item -> item.getRequestId().equals(requestId))
+                    .count();
+        }
+        System.out.printf("filtering  %8.2f ms/page%n", (System.nanoTime() - started) / 1_000_000.0);
+
+        Assertions.assertEquals(REQUESTS, grouped.size());
+        Assertions.assertEquals(items.size(), filtered);
+    }
+}
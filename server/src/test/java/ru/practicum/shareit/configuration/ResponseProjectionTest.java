@@ -0,0 +1,144 @@
+package ru.practicum.shareit.configuration;
+
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+/**
+ * Бронирования и пользователи отдаются проекциями JPA: одна выборка на ответ, сущности не загружаются.
+ */
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "shareit.read-path.bookings=jpa",
+        "shareit.read-path.owner-bookings=jpa",
+        "shareit.read-path.users=jpa"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ResponseProjectionTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        post("/users", 0, "{\"name\":\"owner\",\"email\":\"owner@email.ru\"}");
+        post("/users", 0, "{\"name\":\"booker\",\"email\":\"booker@email.ru\"}");
+        post("/items", 1, "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}");
+        post("/bookings", 2, "{\"itemId\":1,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\"}")
+                .andExpect(MockMvcResultMatchers.jsonPath("$.item.name").value("Дрель"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.booker.name").value("booker"));
+        get("/users/1", 1);
+        get("/users/2", 2);
+        statistics.clear();
+    }
+
+    @DisplayName("Бронирование читается одной выборкой без загрузки сущностей")
+    @Test
+    void bookingIsReadByProjection() throws Exception {
+        get("/bookings/1", 1)
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.start").value("2030-01-01T10:00:00"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("WAITING"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.item.id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.item.name").value("Дрель"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.item.owner").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.booker.id").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.booker.email").doesNotExist());
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    @DisplayName("Списки бронирований читаются одной выборкой без загрузки сущностей")
+    @Test
+    void bookingListsAreReadByProjection() throws Exception {
+        get("/bookings", 2)
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].item.name").value("Дрель"));
+        assertSingleStatementWithoutEntities();
+
+        statistics.clear();
+        get("/bookings/owner", 1)
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].booker.name").value("booker"));
+        assertSingleStatementWithoutEntities();
+    }
+
+    @DisplayName("Подтверждение возвращает вещь и автора бронирования")
+    @Test
+    void approvedBookingContainsItemAndBooker() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.patch("/bookings/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("approved", "true"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("APPROVED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.item.name").value("Дрель"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.booker.id").value(2));
+    }
+
+    @DisplayName("Все ответы с бронированием имеют одну форму: вещь и автор только с id и названием")
+    @Test
+    void bookingResponsesHaveProjectionShape() throws Exception {
+        String booking = "{\"id\":1,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\","
+                + "\"status\":\"%s\",\"item\":{\"id\":1,\"name\":\"Дрель\"},"
+                + "\"booker\":{\"id\":2,\"name\":\"booker\"}}";
+
+        get("/bookings/1", 2)
+                .andExpect(MockMvcResultMatchers.content().json(String.format(booking, "WAITING"), true));
+        get("/bookings", 2)
+                .andExpect(MockMvcResultMatchers.content().json("[" + String.format(booking, "WAITING") + "]", true));
+        get("/bookings/owner", 1)
+                .andExpect(MockMvcResultMatchers.content().json("[" + String.format(booking, "WAITING") + "]", true));
+        mvc.perform(MockMvcRequestBuilders.patch("/bookings/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("approved", "true"))
+                .andExpect(MockMvcResultMatchers.content().json(String.format(booking, "APPROVED"), true));
+    }
+
+    @DisplayName("Пользователи читаются одной выборкой без загрузки сущностей")
+    @Test
+    void usersAreReadByProjection() throws Exception {
+        get("/users", 1)
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].email").value("owner@email.ru"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].name").value("booker"));
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    private void assertSingleStatementWithoutEntities() {
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private ResultActions get(String url, long userId) throws Exception {
+        return mvc.perform(MockMvcRequestBuilders.get(url).header("X-Sharer-User-Id", userId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    private ResultActions post(String url, long userId, String body) throws Exception {
+        return mvc.perform(MockMvcRequestBuilders.post(url)
+                        .header("X-Sharer-User-Id", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
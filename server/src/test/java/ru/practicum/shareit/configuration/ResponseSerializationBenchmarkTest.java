@@ -0,0 +1,133 @@
+package ru.practicum.shareit.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingFilter;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+/**
+ * Чтение и сериализация списка бронирований: сущности с Hibernate5Module против проекции.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class ResponseSerializationBenchmarkTest {
+
+    private static final int ITEMS = 100;
+    private static final int BOOKINGS = 5_000;
+    private static final int ITERATIONS = 40;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+
+    private List<Long> itemsId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@email.ru')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'booker', 'booker@email.ru')");
+        itemsId = LongStream.rangeClosed(1, ITEMS).boxed().collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) "
+                + "VALUES (?, 'item', 'description', TRUE, 1)", itemsId.stream()
+                .map(id -> new Object[]{id})
+                .collect(Collectors.toList()));
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDateTime start = now.minusHours(i);
+            bookings.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(30)),
+                    itemsId.get(i % ITEMS)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (?, ?, ?, 2, 'APPROVED')", bookings);
+    }
+
+    @DisplayName("Список бронирований владельца: сущности против проекции")
+    @Test
+    void compareEntityAndProjectionResponses() {
+        int entityBytes = measure("entities", this::findBookingsByItemId);
+        int projectionBytes = measure("projection", () -> bookingRepository.findBookings(
+                BookingFilter.builder().ownerId(1L).build(), null, 0, BOOKINGS));
+
+        Assertions.assertTrue(projectionBytes < entityBytes);
+    }
+
+    private List<Booking> findBookingsByItemId() {
+        return entityManager.createQuery("select b from Booking as b join fetch b.booker join fetch b.item as i "
+                + "where i.id in (:itemsId) order by b.end desc", Booking.class)
+                .setParameter("itemsId", itemsId)
+                .getResultList();
+    }
+
+    private int measure(String name, Supplier<List<?>> reader) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            serialize(reader);
+        }
+        statistics.clear();
+        long[] nanos = new long[2];
+        int bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            bytes = transactionTemplate.execute(status -> {
+                List<?> rows = reader.get();
+                Assertions.assertEquals(BOOKINGS, rows.size());
+                long read = System.nanoTime();
+                nanos[0] += read - started;
+                byte[] json = write(rows);
+                nanos[1] += System.nanoTime() - read;
+                return json.length;
+            });
+        }
+        System.out.printf("%-10s statements=%d entities=%-6d read=%.2f ms serialize=%.2f ms bytes=%d%n", name,
+                statistics.getPrepareStatementCount() / ITERATIONS, statistics.getEntityLoadCount() / ITERATIONS,
+                nanos[0] / 1_000_000.0 / ITERATIONS, nanos[1] / 1_000_000.0 / ITERATIONS, bytes);
+        return bytes;
+    }
+
+    private void serialize(Supplier<List<?>> reader) {
+        transactionTemplate.executeWithoutResult(status -> write(reader.get()));
+    }
+
+    private byte[] write(List<?> rows) {
+        try {
+            return objectMapper.writeValueAsBytes(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -18,6 +18,8 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.dto.ItemImportResult;
+import ru.practicum.shareit.item.services.ItemBulkImporter;
 import ru.practicum.shareit.item.services.ItemService;
 
 import java.nio.charset.StandardCharsets;
@@ -34,6 +36,8 @@ class ItemControllerTest {
     private ItemController itemController;
     @Mock
     private ItemService itemService;
+    @Mock
+    private ItemBulkImporter itemBulkImporter;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private MockMvc mvc;
     private ItemDtoWithBooking itemDtoWithBooking;
@@ -91,6 +95,24 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.available").value(true));
     }
 
+    @DisplayName("Тестирование загрузки предметов из NDJSON")
+    @Test
+    void addAllTest() throws Exception {
+        ItemImportResult result = new ItemImportResult(1,
+                List.of(new ItemImportResult.LineError(2, "Название вещи не может быть пустым")));
+        Mockito.when(itemBulkImporter.importItems(Mockito.eq(2L), Mockito.any()))
+                .thenReturn(result);
+
+        mvc.perform(post("/items/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n{}\n")
+                        .header(CUSTOM_USER_ID_HEADER, 2)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].line").value(2));
+    }
+
     @DisplayName("Тестирование обновления предмета")
     @Test
     void update() throws Exception {
@@ -132,7 +154,7 @@ class ItemControllerTest {
                 new ItemDTO(2L, "Item 2", "Description 2", true, null)
         );
 
-        Mockito.when(itemService.searchItem(searchText)).thenReturn(itemList);
+        Mockito.when(itemService.searchItem(searchText, 0L, 10L)).thenReturn(itemList);
 
         mvc.perform(MockMvcRequestBuilders.get("/items/search")
                         .header(CUSTOM_USER_ID_HEADER, 1L)
@@ -145,7 +167,21 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].id", Matchers.is(2)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].name", Matchers.is("Item 2")))
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].description", Matchers.is("Description 2")));
-        Mockito.verify(itemService, Mockito.times(1)).searchItem(searchText);
+        Mockito.verify(itemService, Mockito.times(1)).searchItem(searchText, 0L, 10L);
+    }
+
+    @DisplayName("Проверка подсказок при наборе запроса")
+    @Test
+    void suggest() throws Exception {
+        Mockito.when(itemService.suggest("дре", 5L)).thenReturn(List.of("дрель", "дрель-миксер"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/search/suggest")
+                        .header(CUSTOM_USER_ID_HEADER, 1L)
+                        .param("text", "дре")
+                        .param("size", "5"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0]", Matchers.is("дрель")));
     }
 
     @DisplayName("Проверка создания комментария")
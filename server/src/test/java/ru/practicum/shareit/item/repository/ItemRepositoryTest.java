@@ -10,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -17,8 +18,8 @@ import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.TypedQuery;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 @DataJpaTest(properties = {
         "spring.config.name=application-test",
@@ -88,17 +89,22 @@ class ItemRepositoryTest {
         Assertions.assertNotNull(item.getId());
     }
 
-    @DisplayName("Проверка поиска предмета в базе данных")
+    @DisplayName("Проверка загрузки доступных вещей для поискового индекса")
     @Test
-    void search() {
+    void findSearchDocuments() {
+        Item unavailableItem = new Item(null, user, "testItem3", "testDescription3", false, null);
         em.persist(user);
         em.persist(user2);
-        Assertions.assertNull(item.getId());
         em.persist(item);
-        Assertions.assertNotNull(item.getId());
-        Optional<List<Item>> itemInList = itemRepository.search("Item1");
-        Assertions.assertTrue(itemInList.isPresent());
-        Assertions.assertEquals(item, itemInList.get().get(0));
+        em.persist(item2);
+        em.persist(unavailableItem);
+
+        List<ItemDTO> documents = itemRepository.findSearchDocuments();
+        documents.sort(Comparator.comparing(ItemDTO::getId));
+        Assertions.assertEquals(List.of(new ItemDTO(item.getId(), "testItem1", "testDescription", true, null),
+                new ItemDTO(item2.getId(), "testItem2", "testDescription2", true, itemRequest.getId())), documents);
+        Assertions.assertEquals(List.of(new ItemDTO(unavailableItem.getId(), "testItem3", "testDescription3",
+                false, null)), itemRepository.findSearchDocuments(List.of(unavailableItem.getId(), 100L)));
     }
 
     @Test
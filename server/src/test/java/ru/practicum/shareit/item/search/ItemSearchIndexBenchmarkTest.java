@@ -0,0 +1,107 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import ru.practicum.shareit.item.dto.ItemDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Задержка поиска по индексу на миллионе вещей в сравнении с перебором, эквивалентным like.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemSearchIndexBenchmarkTest {
+
+    private static final int ITEMS = 1_000_000;
+    private static final int ITERATIONS = 50;
+    private static final String[] WORDS = {"дрель", "отвёртка", "пила", "молоток", "лестница", "палатка",
+            "велосипед", "самокат", "перфоратор", "шуруповёрт", "рюкзак", "спальник", "котелок", "фонарь",
+            "удочка", "лодка", "коньки", "лыжи", "сноуборд", "проектор", "колонка", "камера", "штатив",
+            "гитара", "синтезатор", "палка", "ведро", "тачка", "газонокосилка", "триммер", "генератор",
+            "компрессор", "домкрат", "стремянка", "миксер", "блендер", "мангал", "шатёр", "гамак", "зонт"};
+    private static final String[] ADJECTIVES = {"новый", "старый", "мощный", "лёгкий", "складной",
+            "электрический", "ручной", "большой", "детский", "туристический"};
+
+    private final ItemSearchIndex itemSearchIndex = new ItemSearchIndex(null);
+    private List<ItemDTO> items;
+
+    @BeforeAll
+    void setUp() {
+        items = generateItems(ITEMS);
+        long started = System.nanoTime();
+        itemSearchIndex.rebuild(items);
+        System.out.printf("build            items=%d time=%.0f ms%n", ITEMS, (System.nanoTime() - started) / 1e6);
+    }
+
+    static List<ItemDTO> generateItems(int count) {
+        Random random = new Random(42);
+        List<ItemDTO> items = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + id;
+            String description = "В хорошем состоянии, " + WORDS[random.nextInt(WORDS.length)] + " и "
+                    + WORDS[random.nextInt(WORDS.length)] + " в комплекте";
+            items.add(new ItemDTO(id, name, description, random.nextInt(10) > 0, null));
+        }
+        return items;
+    }
+
+    @DisplayName("Поиск по индексу на миллионе вещей")
+    @Test
+    void searchLatency() {
+        for (String query : List.of("газонокосилка", "электрический генератор", "ручной шуруп", "742137", "лы")) {
+            List<ItemDTO> indexed = itemSearchIndex.search(query, 0, 20);
+            Assertions.assertEquals(scan(query), indexed, query);
+            measure("index  " + query, () -> itemSearchIndex.search(query, 0, 20));
+            measure("scan   " + query, () -> scan(query));
+        }
+    }
+
+    private List<ItemDTO> scan(String text) {
+        String query = text.toLowerCase(Locale.ROOT);
+        List<ItemDTO> prefix = new ArrayList<>();
+        List<ItemDTO> name = new ArrayList<>();
+        List<ItemDTO> description = new ArrayList<>();
+        for (ItemDTO item : items) {
+            if (!item.getAvailable()) {
+                continue;
+            }
+            String itemName = item.getName().toLowerCase(Locale.ROOT);
+            if (itemName.startsWith(query)) {
+                prefix.add(item);
+            } else if (itemName.contains(query)) {
+                name.add(item);
+            } else if (item.getDescription().toLowerCase(Locale.ROOT).contains(query)) {
+                description.add(item);
+            }
+        }
+        prefix.addAll(name);
+        prefix.addAll(description);
+        return prefix.subList(0, Math.min(20, prefix.size()));
+    }
+
+    private void measure(String name, Runnable search) {
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            search.run();
+        }
+        long[] times = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            search.run();
+            times[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(times);
+        System.out.printf("%-40s p50=%8.3f ms p99=%8.3f ms%n", name, times[ITERATIONS / 2] / 1e6,
+                times[ITERATIONS * 99 / 100] / 1e6);
+    }
+}
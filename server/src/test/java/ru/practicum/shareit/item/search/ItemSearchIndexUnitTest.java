@@ -0,0 +1,111 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexUnitTest {
+    @InjectMocks
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private ItemRepository itemRepository;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(itemRepository.findSearchDocuments()).thenReturn(List.of(
+                new ItemDTO(1L, "Аккумуляторная дрель", "Дрель с двумя батареями", true, null),
+                new ItemDTO(2L, "Отвёртка", "Крестовая, подходит к дрели", true, null),
+                new ItemDTO(3L, "Дрель ударная", "Для бетона", true, 7L),
+                new ItemDTO(4L, "Дрель старая", "Сломана", false, null),
+                new ItemDTO(5L, "Перфоратор", "Мощнее любой дрели", true, null)));
+    }
+
+    @DisplayName("Поиск ранжирует совпадения: начало названия, название, описание")
+    @Test
+    void searchRanksByMatchPlaceTest() {
+        Assertions.assertEquals(List.of(3L, 1L, 2L, 5L), ids(itemSearchIndex.search("ДРЕЛ", 0, 10)));
+        Mockito.verify(itemRepository, Mockito.times(1)).findSearchDocuments();
+    }
+
+    @DisplayName("Поиск возвращает запрошенную страницу")
+    @Test
+    void searchPageTest() {
+        Assertions.assertEquals(List.of(1L, 2L), ids(itemSearchIndex.search("дрел", 1, 2)));
+        Assertions.assertTrue(itemSearchIndex.search("дрел", 10, 2).isEmpty());
+    }
+
+    @DisplayName("Поиск находит подстроку, а не отдельные триграммы")
+    @Test
+    void searchMatchesWholeSubstringTest() {
+        Assertions.assertEquals(List.of(1L), ids(itemSearchIndex.search("двумя бат", 0, 10)));
+        Assertions.assertTrue(itemSearchIndex.search("бат двумя", 0, 10).isEmpty());
+        Assertions.assertTrue(itemSearchIndex.search("пила", 0, 10).isEmpty());
+    }
+
+    @DisplayName("Короткий запрос обрабатывается перебором, пустой не выполняется")
+    @Test
+    void searchShortAndBlankQueryTest() {
+        Assertions.assertEquals(List.of(1L), ids(itemSearchIndex.search("ак", 0, 10)));
+        Assertions.assertTrue(itemSearchIndex.search("  ", 0, 10).isEmpty());
+    }
+
+    @DisplayName("Изменение вещи обновляет индекс")
+    @Test
+    void onItemChangedTest() {
+        itemSearchIndex.search("дрел", 0, 10);
+        Mockito.when(itemRepository.findSearchDocuments(List.of(3L, 5L))).thenReturn(List.of(
+                new ItemDTO(3L, "Молоток", "Для гвоздей", true, 7L),
+                new ItemDTO(5L, "Перфоратор", "Мощнее любой дрели", false, null)));
+        Mockito.when(itemRepository.findSearchDocuments(List.of(6L, 1L))).thenReturn(List.of(
+                new ItemDTO(6L, "Дрель-миксер", "Для раствора", true, null)));
+
+        itemSearchIndex.onItemChanged(new ItemChangedEvent(List.of(3L, 5L)));
+        itemSearchIndex.onItemChanged(new ItemChangedEvent(List.of(6L, 1L)));
+
+        Assertions.assertEquals(List.of(6L, 2L), ids(itemSearchIndex.search("дрел", 0, 10)));
+        Assertions.assertEquals(List.of(3L), ids(itemSearchIndex.search("молот", 0, 10)));
+        Assertions.assertEquals(7L, itemSearchIndex.search("молот", 0, 10).get(0).getRequestId());
+    }
+
+    @DisplayName("Запрос к базе при изменении вещи не блокирует поиск")
+    @Test
+    void onItemChangedLoadsOutsideWriteLockTest() {
+        itemSearchIndex.search("дрел", 0, 10);
+        Mockito.when(itemRepository.findSearchDocuments(List.of(2L))).thenAnswer(invocation -> {
+            List<ItemDTO> found = CompletableFuture.supplyAsync(() -> itemSearchIndex.search("дрел", 0, 10))
+                    .get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of(3L, 1L, 2L, 5L), ids(found));
+            return List.of();
+        });
+
+        itemSearchIndex.onItemChanged(new ItemChangedEvent(2L));
+
+        Assertions.assertEquals(List.of(3L, 1L, 5L), ids(itemSearchIndex.search("дрел", 0, 10)));
+    }
+
+    @DisplayName("Изменение вещи до построения индекса не загружает его")
+    @Test
+    void onItemChangedBeforeLoadTest() {
+        itemSearchIndex.onItemChanged(new ItemChangedEvent(1L));
+
+        Mockito.verifyNoInteractions(itemRepository);
+    }
+
+    private static List<Long> ids(List<ItemDTO> items) {
+        return items.stream().map(ItemDTO::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Задержка подсказок и обновления префиксного дерева на миллионе вещей.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemSuggestIndexBenchmarkTest {
+
+    private static final int ITEMS = 1_000_000;
+    private static final int ITERATIONS = 10_000;
+
+    private final ItemRepository itemRepository = Mockito.mock(ItemRepository.class);
+    private final ItemSuggestIndex itemSuggestIndex = new ItemSuggestIndex(itemRepository);
+
+    @BeforeAll
+    void setUp() {
+        List<ItemDTO> items = ItemSearchIndexBenchmarkTest.generateItems(ITEMS);
+        long started = System.nanoTime();
+        itemSuggestIndex.rebuild(items);
+        System.out.printf("build            items=%d time=%.0f ms%n", ITEMS, (System.nanoTime() - started) / 1e6);
+    }
+
+    @DisplayName("Подсказки и обновление на миллионе вещей")
+    @Test
+    void suggestLatency() {
+        for (String query : List.of("д", "эле", "электрический г", "7421")) {
+            Assertions.assertFalse(itemSuggestIndex.suggest(query, 10).isEmpty(), query);
+            measure("suggest " + query, () -> itemSuggestIndex.suggest(query, 10));
+        }
+        Mockito.when(itemRepository.findSearchDocuments(Mockito.anyCollection())).thenAnswer(invocation -> {
+            long id = invocation.<List<Long>>getArgument(0).get(0);
+            return List.of(new ItemDTO(id, "Дрель модель " + id % 100, "Описание", true, null));
+        });
+        long[] id = {0};
+        measure("update", () -> itemSuggestIndex.onItemChanged(new ItemChangedEvent(++id[0])));
+    }
+
+    private void measure(String name, Runnable action) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            action.run();
+        }
+        long[] times = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            action.run();
+            times[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(times);
+        System.out.printf("%-40s p50=%8.4f ms p99=%8.4f ms%n", name, times[ITERATIONS / 2] / 1e6,
+                times[ITERATIONS * 99 / 100] / 1e6);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSuggestIndexUnitTest {
+    @InjectMocks
+    private ItemSuggestIndex itemSuggestIndex;
+    @Mock
+    private ItemRepository itemRepository;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(itemRepository.findSearchDocuments()).thenReturn(List.of(
+                new ItemDTO(1L, "Аккумуляторная дрель", "Дрель с двумя батареями", true, null),
+                new ItemDTO(2L, "Дрель ударная", "Для бетона", true, null),
+                new ItemDTO(3L, "Дрель-миксер", "Для раствора", true, null),
+                new ItemDTO(4L, "Дрезина", "Сломана", false, null),
+                new ItemDTO(5L, "Дренажный насос", "Для подвала", true, null)));
+    }
+
+    @DisplayName("Подсказки упорядочены по частоте слова, затем по алфавиту")
+    @Test
+    void suggestRanksByFrequencyTest() {
+        Assertions.assertEquals(List.of("дрель", "дренажный"), itemSuggestIndex.suggest("ДРЕ", 10));
+        Assertions.assertEquals(List.of("дрель"), itemSuggestIndex.suggest("дре", 1));
+        Assertions.assertEquals(List.of("миксер"), itemSuggestIndex.suggest("мик", 10));
+        Mockito.verify(itemRepository, Mockito.times(1)).findSearchDocuments();
+    }
+
+    @DisplayName("Дополняется последнее слово запроса")
+    @Test
+    void suggestCompletesLastWordTest() {
+        Assertions.assertEquals(List.of("дрель ударная"), itemSuggestIndex.suggest("дрель уд", 10));
+        Assertions.assertTrue(itemSuggestIndex.suggest("дрель ", 10).isEmpty());
+        Assertions.assertTrue(itemSuggestIndex.suggest("пила", 10).isEmpty());
+    }
+
+    @DisplayName("Предшествующие слова запроса возвращаются в том виде, в котором введены")
+    @Test
+    void suggestKeepsTypedHeadTest() {
+        Assertions.assertEquals(List.of("Дрель ударная"), itemSuggestIndex.suggest("Дрель УД", 10));
+        Assertions.assertEquals(List.of("  ДРЕЛЬ,  ударная"), itemSuggestIndex.suggest("  ДРЕЛЬ,  Уд", 10));
+    }
+
+    @DisplayName("Изменение вещи обновляет подсказки")
+    @Test
+    void onItemChangedTest() {
+        itemSuggestIndex.suggest("дре", 10);
+        Mockito.when(itemRepository.findSearchDocuments(List.of(5L, 4L, 1L))).thenReturn(List.of(
+                new ItemDTO(4L, "Дрезина", "Починена", true, null),
+                new ItemDTO(1L, "Аккумуляторный шуруповёрт", "Без дрели", true, null)));
+
+        itemSuggestIndex.onItemChanged(new ItemChangedEvent(List.of(5L, 4L, 1L)));
+
+        Assertions.assertEquals(List.of("дрель", "дрезина"), itemSuggestIndex.suggest("дре", 10));
+        Assertions.assertEquals(List.of("аккумуляторный"), itemSuggestIndex.suggest("акк", 10));
+        Assertions.assertTrue(itemSuggestIndex.suggest("дрен", 10).isEmpty());
+    }
+
+    @DisplayName("Запрос к базе при изменении вещи не блокирует подсказки")
+    @Test
+    void onItemChangedLoadsOutsideWriteLockTest() {
+        itemSuggestIndex.suggest("дре", 10);
+        Mockito.when(itemRepository.findSearchDocuments(List.of(5L))).thenAnswer(invocation -> {
+            List<String> found = CompletableFuture.supplyAsync(() -> itemSuggestIndex.suggest("дре", 10))
+                    .get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of("дрель", "дренажный"), found);
+            return List.of();
+        });
+
+        itemSuggestIndex.onItemChanged(new ItemChangedEvent(5L));
+
+        Assertions.assertEquals(List.of("дрель"), itemSuggestIndex.suggest("дре", 10));
+    }
+
+    @DisplayName("Изменение вещи до построения индекса не загружает его")
+    @Test
+    void onItemChangedBeforeLoadTest() {
+        itemSuggestIndex.onItemChanged(new ItemChangedEvent(1L));
+
+        Mockito.verifyNoInteractions(itemRepository);
+    }
+}
@@ -0,0 +1,186 @@
+package ru.practicum.shareit.item.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemImportResult;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.RequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "shareit.items.import.chunk-size=2",
+        "shareit.items.import.max-line-bytes=1024"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+class ItemBulkImporterTest {
+
+    private final ItemBulkImporter itemBulkImporter;
+    @SpyBean
+    private ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User owner;
+    private ItemRequest request;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setName("owner");
+        owner.setEmail("owner@email.ru");
+        owner = userRepository.save(owner);
+        User requester = new User();
+        requester.setName("requester");
+        requester.setEmail("requester@email.ru");
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription("Нужна дрель");
+        itemRequest.setRequester(userRepository.save(requester));
+        itemRequest.setCreated(LocalDateTime.now());
+        request = requestRepository.save(itemRequest);
+    }
+
+    @DisplayName("Корректные строки сохраняются, ошибки возвращаются с номерами строк")
+    @Test
+    void importItemsReportsLineErrors() throws Exception {
+        ItemImportResult result = itemBulkImporter.importItems(owner.getId(), ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true,\"requestId\":" + request.getId()
+                        + "}",
+                "{\"name\":\"Пила\",",
+                "",
+                "{\"name\":\"\",\"description\":\"Без названия\"}",
+                "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":false,\"requestId\":100}",
+                "{\"name\":\"Отвёртка\",\"description\":\"Крестовая\",\"available\":true}"));
+
+        Assertions.assertEquals(3, result.getImported());
+        Assertions.assertEquals(List.of(2L, 4L), result.getErrors().stream()
+                .map(ItemImportResult.LineError::getLine)
+                .collect(Collectors.toList()));
+        Assertions.assertTrue(result.getErrors().get(0).getError().startsWith("Некорректный JSON"));
+        Assertions.assertEquals("Название вещи не может быть пустым; "
+                + "Необходимо указать доступна ли вещь в аренду на данный момент", result.getErrors().get(1).getError());
+
+        List<Item> items = itemRepository.findItemsByOwnerIdOrderByIdAsc(owner.getId());
+        Assertions.assertEquals(List.of("Дрель", "Молоток", "Отвёртка"), items.stream()
+                .map(Item::getName)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(request.getId()), transactionTemplate.execute(status ->
+                itemRepository.findItemsByOwnerIdOrderByIdAsc(owner.getId()).stream()
+                        .filter(item -> item.getRequest() != null)
+                        .map(item -> item.getRequest().getId())
+                        .collect(Collectors.toList())));
+    }
+
+    @DisplayName("На каждую сохранённую пачку публикуется одно событие")
+    @Test
+    void importItemsPublishesEventPerChunk() throws Exception {
+        itemBulkImporter.importItems(owner.getId(), ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}",
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}",
+                "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":true}"));
+
+        List<Long> ids = itemRepository.findItemsByOwnerIdOrderByIdAsc(owner.getId()).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(List.of(ids.subList(0, 2), ids.subList(2, 3)),
+                applicationEvents.stream(ItemChangedEvent.class)
+                        .map(ItemChangedEvent::getItemIds)
+                        .collect(Collectors.toList()));
+    }
+
+    @DisplayName("Слишком длинные название и описание отклоняются проверкой, остальная пачка сохраняется")
+    @Test
+    void oversizedFieldsAreRejectedByValidation() throws Exception {
+        ItemImportResult result = itemBulkImporter.importItems(owner.getId(), ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}",
+                "{\"name\":\"Пила\",\"description\":\"" + "d".repeat(501) + "\",\"available\":true}",
+                "{\"name\":\"" + "ы".repeat(301) + "\",\"description\":\"Длинное название\",\"available\":true}",
+                "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":true}"));
+
+        Assertions.assertEquals(2, result.getImported());
+        Assertions.assertEquals(List.of("Описание вещи не может быть длиннее 500 символов",
+                "Название вещи не может быть длиннее 300 символов"), result.getErrors().stream()
+                .map(ItemImportResult.LineError::getError)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(2L, 3L), result.getErrors().stream()
+                .map(ItemImportResult.LineError::getLine)
+                .collect(Collectors.toList()));
+    }
+
+    @DisplayName("Если база отклонила пачку, её строки сохраняются по одной")
+    @Test
+    void failedChunkIsRetriedLineByLine() throws Exception {
+        Mockito.doThrow(new DataIntegrityViolationException("Отклонено базой"))
+                .when(itemRepository).save(Mockito.argThat(item -> "Сломанная".equals(item.getName())));
+
+        ItemImportResult result = itemBulkImporter.importItems(owner.getId(), ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}",
+                "{\"name\":\"Сломанная\",\"description\":\"Не сохранится\",\"available\":true}",
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}"));
+
+        Assertions.assertEquals(2, result.getImported());
+        Assertions.assertEquals(List.of(new ItemImportResult.LineError(2L, "Не удалось сохранить вещь")),
+                result.getErrors());
+        Assertions.assertEquals(List.of("Дрель", "Пила"), itemRepository.findItemsByOwnerIdOrderByIdAsc(owner.getId())
+                .stream()
+                .map(Item::getName)
+                .collect(Collectors.toList()));
+    }
+
+    @DisplayName("Слишком длинная строка отклоняется, следующие строки загружаются")
+    @Test
+    void importItemsRejectsLongLine() throws Exception {
+        ItemImportResult result = itemBulkImporter.importItems(owner.getId(), ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"" + "д".repeat(1000) + "\",\"available\":true}",
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}"));
+
+        Assertions.assertEquals(1, result.getImported());
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertEquals(1L, result.getErrors().get(0).getLine());
+        Assertions.assertEquals("Строка длиннее 1024 байт", result.getErrors().get(0).getError());
+        Assertions.assertEquals(List.of("Пила"), itemRepository.findItemsByOwnerIdOrderByIdAsc(owner.getId())
+                .stream()
+                .map(Item::getName)
+                .collect(Collectors.toList()));
+    }
+
+    @DisplayName("Загрузка для несуществующего пользователя")
+    @Test
+    void importItemsForUnknownUser() {
+        Assertions.assertThrows(NotFoundException.class, () -> itemBulkImporter.importItems(100L, ndjson(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}")));
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
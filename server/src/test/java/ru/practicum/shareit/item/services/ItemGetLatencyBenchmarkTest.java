@@ -0,0 +1,164 @@
+package ru.practicum.shareit.item.services;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+/**
+ * Задержка getItem для владельца: последовательные запросы в одной транзакции против параллельной загрузки
+ * комментариев и бронирований. Каждому запросу к базе добавляется задержка сети {@link #ROUND_TRIP_MILLIS} мс,
+ * кэши Hibernate отключены, чтобы запросы доходили до базы.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.transaction=WARN",
+        "logging.level.ru.practicum.shareit=WARN"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class ItemGetLatencyBenchmarkTest {
+
+    private static final long ROUND_TRIP_MILLIS = 2;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 500;
+    private static volatile boolean delayEnabled;
+
+    private final ItemService itemService;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@email.ru')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'booker', 'booker@email.ru')");
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id) "
+                + "VALUES (1, 'item', 'description', TRUE, 1)");
+        for (int i = 0; i < 50; i++) {
+            jdbcTemplate.update("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) "
+                    + "VALUES (DATEADD('DAY', ?, CURRENT_TIMESTAMP), DATEADD('DAY', ?, CURRENT_TIMESTAMP), 1, 2, "
+                    + "'APPROVED')", i - 25, i - 24);
+        }
+        for (int i = 0; i < 20; i++) {
+            jdbcTemplate.update("INSERT INTO comments (text, item_id, author_id, created) "
+                    + "VALUES (?, 1, 2, CURRENT_TIMESTAMP)", "comment " + i);
+        }
+    }
+
+    @DisplayName("Параллельная загрузка комментариев и бронирований против последовательной")
+    @Test
+    void compareSequentialAndParallelGetItem() {
+        Assertions.assertEquals(itemService.getItem(1, 1).getComments().size(), 20);
+        delayEnabled = true;
+        long sequential = measure("sequential", this::sequentialGetItem);
+        long parallel = measure("parallel", () -> itemService.getItem(1, 1).getComments().size());
+        delayEnabled = false;
+
+        Assertions.assertTrue(parallel < sequential);
+    }
+
+    /**
+     * Те же выборки одна за другой в одной транзакции, с прежней проверкой владельца отдельным запросом.
+     */
+    private long sequentialGetItem() {
+        return transactionTemplate.execute(status -> {
+            itemRepository.findById(1L).orElseThrow();
+            List<CommentDto> comments = commentRepository.findCommentDtosByItemId(1L);
+            itemRepository.findItemByIdAndOwnerId(1L, 1L);
+            List<LastAndNextBookingView> bookings = bookingRepository.findLastAndNextBookings(List.of(1L),
+                    LocalDateTime.now());
+            return comments.size() + bookings.size();
+        });
+    }
+
+    private static long measure(String name, LongSupplier getItem) {
+        for (int i = 0; i < WARMUP; i++) {
+            getItem.getAsLong();
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            getItem.getAsLong();
+            latencies[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(latencies);
+        long mean = (long) Arrays.stream(latencies).average().orElse(0);
+        System.out.printf("%-10s mean=%5d us p50=%5d us p99=%5d us%n", name, mean / 1000,
+                latencies[ITERATIONS / 2] / 1000, latencies[ITERATIONS * 99 / 100] / 1000);
+        return mean;
+    }
+
+    @TestConfiguration
+    static class RoundTripDelayConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripDelayingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? proxy(DataSource.class, bean) : bean;
+                }
+            };
+        }
+
+        /**
+         * Оборачивает соединения и запросы, добавляя задержку к каждому execute.
+         */
+        private static <T> T proxy(Class<T> type, Object target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (delayEnabled && method.getName().startsWith("execute")) {
+                            TimeUnit.MILLISECONDS.sleep(ROUND_TRIP_MILLIS);
+                        }
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Connection) {
+                            return proxy(Connection.class, result);
+                        }
+                        if (result instanceof Statement && method.getReturnType().isInterface()) {
+                            return proxy(method.getReturnType(), result);
+                        }
+                        return result;
+                    }));
+        }
+    }
+}
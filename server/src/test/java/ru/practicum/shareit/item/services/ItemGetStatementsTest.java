@@ -0,0 +1,117 @@
+package ru.practicum.shareit.item.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemGetStatementsTest {
+
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private Item item;
+    private Booking last;
+    private Booking next;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(user("owner"));
+            booker = userRepository.save(user("booker"));
+            item = itemRepository.save(new Item(null, owner, "Дрель", "Ударная", true, null));
+            last = bookingRepository.save(booking(now.minusDays(2), now.minusDays(1)));
+            next = bookingRepository.save(booking(now.plusDays(1), now.plusDays(2)));
+            commentRepository.save(Comment.builder()
+                    .text("Отличная дрель")
+                    .item(item)
+                    .author(booker)
+                    .created(now)
+                    .build());
+        });
+        itemRepository.findById(item.getId());
+        statistics.clear();
+    }
+
+    @DisplayName("Вещь владельца собирается из проекций: по запросу на комментарии и на бронирования")
+    @Test
+    void ownerItemIsAssembledFromProjections() {
+        ItemDtoWithBooking ownerItem = itemService.getItem(owner.getId(), item.getId());
+
+        Assertions.assertEquals(last.getId(), ownerItem.getLastBooking().getId());
+        Assertions.assertEquals(booker.getId(), ownerItem.getLastBooking().getBookerId());
+        Assertions.assertEquals(next.getId(), ownerItem.getNextBooking().getId());
+        Assertions.assertEquals(List.of("booker"), ownerItem.getComments().stream()
+                .map(CommentDto::getAuthorName)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @DisplayName("Для не владельца бронирования не запрашиваются")
+    @Test
+    void otherUserItemSkipsBookings() {
+        ItemDtoWithBooking bookerItem = itemService.getItem(booker.getId(), item.getId());
+
+        Assertions.assertNull(bookerItem.getLastBooking());
+        Assertions.assertEquals(1, bookerItem.getComments().size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private Booking booking(LocalDateTime start, LocalDateTime end) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setStatus(BookingStatus.APPROVED);
+        return booking;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@email.ru");
+        return user;
+    }
+}
@@ -8,12 +8,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 import ru.practicum.shareit.booking.dto.BookingIdAndBookerDto;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.configuration.ParallelReads;
 import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.InputCommentDto;
 import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
@@ -21,6 +28,9 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemSuggestIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -28,8 +38,11 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @ExtendWith(MockitoExtension.class)
 class ItemServiceImplUnitTest {
@@ -45,6 +58,14 @@ class ItemServiceImplUnitTest {
     private CommentRepository commentRepository;
     @Mock
     private RequestRepository requestRepository;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private ItemSuggestIndex itemSuggestIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private ParallelReads parallelReads = new ParallelReads(Mockito.mock(PlatformTransactionManager.class), 2);
 
     private Item item;
     private Item item2;
@@ -94,21 +115,44 @@ class ItemServiceImplUnitTest {
 
         Mockito.when(itemRepository.findItemsByOwnerIdOrderByIdAsc(Mockito.anyLong())).thenReturn(List.of(item,
                 item2, item3));
-        Mockito.when(bookingRepository.findBookingsByItemId(Mockito.anyList())).thenReturn(List.of(booking, booking2,
-                booking3));
+        Mockito.when(bookingRepository.findLastAndNextBookings(Mockito.anyList(), Mockito.any()))
+                .thenReturn(List.of(lastAndNextBookingView(item.getId(), booking.getId(), booking2.getId()),
+                        lastAndNextBookingView(item2.getId(), booking2.getId(), null),
+                        lastAndNextBookingView(item3.getId(), booking3.getId(), null)));
 
         List<ItemDtoWithBooking> userItems = itemService.getUserItems(1);
 
         Assertions.assertAll("should return bookings from setUp",
                 () -> Assertions.assertEquals(booking.getId(), userItems.get(0).getLastBooking().getId()),
+                () -> Assertions.assertEquals(booking2.getId(), userItems.get(0).getNextBooking().getId()),
                 () -> Assertions.assertEquals(booking2.getId(), userItems.get(1).getLastBooking().getId()),
+                () -> Assertions.assertNull(userItems.get(1).getNextBooking()),
                 () -> Assertions.assertEquals(booking3.getId(), userItems.get(2).getLastBooking().getId()));
 
 
         Mockito.verify(itemRepository, Mockito.times(1)).findItemsByOwnerIdOrderByIdAsc(Mockito
                 .anyLong());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingsByItemId(Mockito
-                .anyList());
+        Mockito.verify(bookingRepository, Mockito.times(1)).findLastAndNextBookings(Mockito
+                .anyList(), Mockito.any());
+    }
+
+    @DisplayName("Проверка получения предметов пользователем без предметов")
+    @Test
+    void getUserItemsWithoutItemsTest() {
+        Mockito.when(itemRepository.findItemsByOwnerIdOrderByIdAsc(Mockito.anyLong())).thenReturn(List.of());
+
+        Assertions.assertTrue(itemService.getUserItems(1).isEmpty());
+        Mockito.verifyNoInteractions(bookingRepository);
+    }
+
+    private LastAndNextBookingView lastAndNextBookingView(Long itemId, Long lastBookingId, Long nextBookingId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("itemId", itemId);
+        values.put("lastBookingId", lastBookingId);
+        values.put("lastBookerId", 2L);
+        values.put("nextBookingId", nextBookingId);
+        values.put("nextBookerId", nextBookingId == null ? null : 2L);
+        return new SpelAwareProxyProjectionFactory().createProjection(LastAndNextBookingView.class, values);
     }
 
     @DisplayName("Проверка получения несуществующего предмета")
@@ -134,34 +178,30 @@ class ItemServiceImplUnitTest {
 
         Mockito.verify(itemRepository, Mockito.times(1)).findById(Mockito
                 .anyLong());
+        Mockito.verifyNoInteractions(bookingRepository);
     }
 
-    @DisplayName("Проверка получения определенного предмета пользователем с следующим бронированием")
+    @DisplayName("Проверка получения определенного предмета владельцем с следующим бронированием")
     @Test
     void getUserItemWithNextBookingTest() {
         ItemDtoWithBooking itemDtoWithBooking = new ItemDtoWithBooking(item.getName(), item.getDescription(),
                 item.getAvailable());
-        BookingIdAndBookerDto bookingIdAndBookerDto = new BookingIdAndBookerDto();
         itemDtoWithBooking.setId(item.getId());
         itemDtoWithBooking.setComments(new ArrayList<>());
-        bookingIdAndBookerDto.setId(booking.getId());
-        itemDtoWithBooking.setLastBooking(bookingIdAndBookerDto);
+        itemDtoWithBooking.setLastBooking(new BookingIdAndBookerDto(booking.getId(), 2L));
+        itemDtoWithBooking.setNextBooking(new BookingIdAndBookerDto(booking2.getId(), 2L));
 
         Mockito.when(itemRepository.findById(Mockito.anyLong()))
                 .thenAnswer(invocationOnMock -> Optional.of(item));
-        Mockito.when(itemRepository.getItemByIdAndOwnerId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.of(item));
-        Mockito.when(bookingRepository.findBookingsByItemIdOrderByEndDesc(Mockito.anyLong()))
-                .thenReturn(Optional.of(List.of(booking)));
+        item.getOwner().setId(1L);
+        Mockito.when(bookingRepository.findLastAndNextBookings(Mockito.eq(List.of(item.getId())), Mockito.any()))
+                .thenReturn(List.of(lastAndNextBookingView(item.getId(), booking.getId(), booking2.getId())));
 
         Assertions.assertEquals(itemDtoWithBooking, itemService.getItem(1, 1));
 
         Mockito.verify(itemRepository, Mockito.times(1)).findById(Mockito
                 .anyLong());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingsByItemIdOrderByEndDesc(
-                Mockito.anyLong());
-        Mockito.verify(itemRepository, Mockito.times(1)).getItemByIdAndOwnerId(Mockito.anyLong(),
-                Mockito.anyLong());
+        Mockito.verify(commentRepository, Mockito.times(1)).findCommentDtosByItemId(item.getId());
     }
 
 
@@ -170,53 +210,58 @@ class ItemServiceImplUnitTest {
     void getOwnerItemTest() {
         ItemDtoWithBooking itemDtoWithBooking = new ItemDtoWithBooking(item.getName(), item.getDescription(),
                 item.getAvailable());
-        BookingIdAndBookerDto bookingIdAndBookerDto = new BookingIdAndBookerDto();
         itemDtoWithBooking.setId(item.getId());
-        itemDtoWithBooking.setComments(new ArrayList<>());
-        bookingIdAndBookerDto.setId(booking.getId());
-        itemDtoWithBooking.setLastBooking(bookingIdAndBookerDto);
+        itemDtoWithBooking.setLastBooking(new BookingIdAndBookerDto(booking.getId(), 2L));
 
         Mockito.when(itemRepository.findById(Mockito.anyLong()))
                 .thenAnswer(invocationOnMock -> Optional.of(item));
-        Mockito.when(itemRepository.getItemByIdAndOwnerId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.of(item));
-        Mockito.when(bookingRepository.findBookingsByItemIdOrderByEndDesc(Mockito.anyLong()))
-                .thenReturn(Optional.of(List.of(booking)));
-
-        Assertions.assertEquals(itemDtoWithBooking, itemService.getItem(1, 1));
-
+        item.getOwner().setId(1L);
+        Mockito.when(commentRepository.findCommentDtosByItemId(item.getId()))
+                .thenReturn(List.of(new CommentDto(1L, "testComment", "testUser")));
+        Mockito.when(bookingRepository.findLastAndNextBookings(Mockito.eq(List.of(item.getId())), Mockito.any()))
+                .thenReturn(List.of(lastAndNextBookingView(item.getId(), booking.getId(), null)));
+
+        ItemDtoWithBooking ownerItem = itemService.getItem(1, 1);
+
+        Assertions.assertEquals(itemDtoWithBooking.getLastBooking(), ownerItem.getLastBooking());
+        Assertions.assertNull(ownerItem.getNextBooking());
+        Assertions.assertEquals(List.of("testUser"), ownerItem.getComments().stream()
+                .map(CommentDto::getAuthorName).collect(Collectors.toList()));
         Mockito.verify(itemRepository, Mockito.times(1)).findById(Mockito
                 .anyLong());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingsByItemIdOrderByEndDesc(
-                Mockito.anyLong());
-        Mockito.verify(itemRepository, Mockito.times(1)).getItemByIdAndOwnerId(Mockito.anyLong(),
-                Mockito.anyLong());
     }
 
-    @DisplayName("Тестирование поиска с пустой строкой вместо запроса")
+    @DisplayName("Тестирование поиска с отрицательным индексом первого элемента")
     @Test
-    void searchItemWithEmptyStringTest() {
-        Assertions.assertEquals(new ArrayList<>(), itemService.searchItem(""));
+    void searchItemWithNegativeFromTest() {
+        Assertions.assertThrows(BadRequestException.class, () -> itemService.searchItem("тестовый запрос", -1L, 10L));
+        Mockito.verifyNoInteractions(itemSearchIndex);
     }
 
-    @DisplayName("Тестирование поиска предмета, который выбросит NotFoundEx")
+    @DisplayName("Тестирование поиска с нулевым размером страницы")
     @Test
-    void searchItemNotFoundTest() {
-        Mockito.when(itemRepository.search(Mockito.anyString())).thenAnswer(invocationOnMock -> Optional.empty());
-        Assertions.assertThrows(NotFoundException.class, () -> itemService.searchItem("тестовый запрос"));
-        Mockito.verify(itemRepository, Mockito.times(1)).search(Mockito.anyString());
+    void searchItemWithZeroSizeTest() {
+        Assertions.assertThrows(BadRequestException.class, () -> itemService.searchItem("тестовый запрос", 0L, 0L));
+        Mockito.verifyNoInteractions(itemSearchIndex);
     }
 
     @DisplayName("Тестирование поиска предмета c ожидаемым результатом")
     @Test
     void searchItemWithRegularResultTest() {
-        Mockito.when(itemRepository.search(Mockito.anyString())).thenReturn(Optional.of(List.of(item, item2, item3)));
+        List<ItemDTO> items = List.of(new ItemDTO(1L, "testItem", "testDescription", true, null),
+                new ItemDTO(3L, "testItem3", "testDescription3", true, null));
+        Mockito.when(itemSearchIndex.search("testString", 10, 5)).thenReturn(items);
+
+        Assertions.assertEquals(items, itemService.searchItem("testString", 10L, 5L));
+    }
+
+    @DisplayName("Тестирование подсказок с ограничением количества")
+    @Test
+    void suggestLimitsSizeTest() {
+        Mockito.when(itemSuggestIndex.suggest("дре", ItemSuggestIndex.MAX_SUGGESTIONS)).thenReturn(List.of("дрель"));
 
-        Assertions.assertAll("ожидаются нужные id предметов",
-                () -> Assertions.assertEquals(item.getId(), itemService.searchItem("testString").get(0).getId()),
-                () -> Assertions.assertEquals(item2.getId(), itemService.searchItem("testString").get(1).getId()),
-                () -> Assertions.assertEquals(item3.getId(), itemService.searchItem("testString").get(2).getId()));
-        Mockito.verify(itemRepository, Mockito.times(3)).search(Mockito.anyString());
+        Assertions.assertEquals(List.of("дрель"), itemService.suggest("дре", 100L));
+        Assertions.assertThrows(BadRequestException.class, () -> itemService.suggest("дре", 0L));
     }
 
     @DisplayName("Тестирование добавления предмета несуществующим пользователем")
@@ -280,6 +325,7 @@ class ItemServiceImplUnitTest {
         itemService.deleteItem(1, 1);
         Mockito.verify(itemRepository, Mockito.times(1)).deleteByIdAndOwnerId(Mockito.anyLong(),
                 Mockito.anyLong());
+        Mockito.verify(eventPublisher).publishEvent(new ItemChangedEvent(1L));
     }
 
     @DisplayName("неудачное добавление комментария к предмету без booking")
@@ -106,7 +106,7 @@ class ItemServiceIntegrationTest {
     void searchItemWithRegularResultTest() {
         userRepository.save(user);
         itemRepository.save(item);
-        Assertions.assertEquals("testDescription", itemService.searchItem("it").get(0).getDescription());
+        Assertions.assertEquals("testDescription", itemService.searchItem("it", 0L, 10L).get(0).getDescription());
     }
 
     @DisplayName("Проверка добавления предмета")
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.item.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.LastAndNextBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+/**
+ * Сравнение загрузки всех бронирований вещей владельца с выборкой последнего и следующего бронирования в SQL.
+ * Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false"
+}, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class UserItemsBookingsBenchmarkTest {
+
+    private static final int ITEMS = 300;
+    private static final int BOOKINGS_PER_ITEM = 100;
+    private static final int ITERATIONS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private List<Long> itemsId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@email.ru')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'booker', 'booker@email.ru')");
+        itemsId = LongStream.rangeClosed(1, ITEMS).boxed().collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) "
+                + "VALUES (?, 'item', 'description', TRUE, 1)", itemsId.stream()
+                .map(id -> new Object[]{id})
+                .collect(Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> bookings = new ArrayList<>();
+        for (long itemId : itemsId) {
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                LocalDateTime start = now.minusDays(BOOKINGS_PER_ITEM / 2 - i);
+                bookings.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(12)), itemId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (?, ?, ?, 2, 'APPROVED')", bookings);
+    }
+
+    @DisplayName("Последнее и следующее бронирование: выборка всех бронирований против оконной функции")
+    @Test
+    void compareLastAndNextBookingResolution() {
+        int allBookingsRows = measure("all bookings", () -> transactionTemplate.execute(status -> {
+            Map<Long, List<Booking>> bookingsMap = findBookingsByItemId().stream()
+                    .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+            return bookingsMap.values().stream().mapToInt(List::size).sum();
+        }));
+        int windowRows = measure("window function", () -> transactionTemplate.execute(status -> {
+            List<LastAndNextBookingView> views = bookingRepository.findLastAndNextBookings(itemsId,
+                    LocalDateTime.now());
+            return views.size();
+        }));
+
+        Assertions.assertEquals(ITEMS * BOOKINGS_PER_ITEM, allBookingsRows);
+        Assertions.assertEquals(ITEMS, windowRows);
+    }
+
+    private List<Booking> findBookingsByItemId() {
+        return entityManager.createQuery("select b from Booking as b join fetch b.booker join fetch b.item as i "
+                + "where i.id in (:itemsId) order by b.end desc", Booking.class)
+                .setParameter("itemsId", itemsId)
+                .getResultList();
+    }
+
+    private int measure(String name, RowsSupplier supplier) {
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            supplier.get();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = supplier.get();
+        }
+        double millis = (System.nanoTime() - started) / 1_000_000.0 / ITERATIONS;
+        System.out.printf("%-16s rows=%-6d avg=%.2f ms%n", name, rows, millis);
+        return rows;
+    }
+
+    private interface RowsSupplier {
+        Integer get();
+    }
+}
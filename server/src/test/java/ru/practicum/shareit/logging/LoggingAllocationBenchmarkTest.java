@@ -0,0 +1,88 @@
+package ru.practicum.shareit.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+/**
+ * Память, выделяемая потоком запроса на чтение списков бронирований, вещей, запросов и пользователей
+ * при уровне логирования INFO. Запуск: mvn test -P benchmark -pl server
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.orm.jpa=WARN",
+        "logging.level.org.springframework.transaction=WARN"
+})
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext
+class LoggingAllocationBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private final MockMvc mvc;
+    private final JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 100; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", i, "user" + i,
+                    "user" + i + "@email.ru");
+        }
+        for (int i = 1; i <= 20; i++) {
+            jdbcTemplate.update("INSERT INTO requests (id, description, requestor_id, created) "
+                    + "VALUES (?, ?, 2, CURRENT_TIMESTAMP)", i, "Нужна вещь " + i);
+            jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id, request_id) "
+                    + "VALUES (?, ?, 'Описание', TRUE, 1, ?)", i, "Вещь " + i, i);
+        }
+        for (int i = 1; i <= 100; i++) {
+            jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                    + "VALUES (?, DATEADD('DAY', ?, CURRENT_TIMESTAMP), DATEADD('DAY', ?, CURRENT_TIMESTAMP), ?, 2, "
+                    + "'APPROVED')", i, i - 50, i - 49, i % 20 + 1);
+        }
+    }
+
+    @DisplayName("Выделение памяти на запрос списков")
+    @Test
+    void allocationPerRequest() throws Exception {
+        for (String[] request : List.of(new String[]{"/bookings?size=100", "2"},
+                new String[]{"/bookings/owner?size=100", "1"}, new String[]{"/items", "1"},
+                new String[]{"/requests", "2"}, new String[]{"/users", "1"})) {
+            System.out.printf("%-26s %8d bytes/request%n", request[0], allocatedPerRequest(request[0], request[1]));
+        }
+    }
+
+    private long allocatedPerRequest(String url, String userId) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            get(url, userId);
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            get(url, userId);
+        }
+        return (threads.getThreadAllocatedBytes(thread) - before) / ITERATIONS;
+    }
+
+    private void get(String url, String userId) throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get(url).header("X-Sharer-User-Id", userId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+class PayloadSamplingFilterTest {
+
+    private final PayloadSamplingFilter filter = new PayloadSamplingFilter();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("payload");
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @DisplayName("При нулевой доле дампы отбрасываются, остальные сообщения не затрагиваются")
+    @Test
+    void zeroRateDeniesPayloadOnly() {
+        filter.setRate(0);
+
+        Assertions.assertEquals(FilterReply.DENY, decide(LogMarkers.PAYLOAD, Level.DEBUG));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(null, Level.DEBUG));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(MarkerFactory.getMarker("OTHER"), Level.DEBUG));
+    }
+
+    @DisplayName("При доле 1 все дампы проходят")
+    @Test
+    void fullRateKeepsPayload() {
+        filter.setRate(1);
+
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(LogMarkers.PAYLOAD, Level.DEBUG));
+    }
+
+    @DisplayName("Выключенный уровень решается логгером, без выборки")
+    @Test
+    void disabledLevelIsNeutral() {
+        filter.setRate(0);
+
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(LogMarkers.PAYLOAD, Level.TRACE));
+    }
+
+    private FilterReply decide(Marker marker, Level level) {
+        return filter.decide(marker, logger, level, "{}", new Object[]{"payload"}, null);
+    }
+}
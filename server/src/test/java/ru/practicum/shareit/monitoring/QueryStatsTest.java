@@ -0,0 +1,135 @@
+package ru.practicum.shareit.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "spring.config.name=application-test",
+        "spring.config.location=classpath:application-test.properties"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class QueryStatsTest {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        post("/users", 0, "{\"name\":\"owner\",\"email\":\"owner@email.ru\"}");
+        post("/users", 0, "{\"name\":\"booker\",\"email\":\"booker@email.ru\"}");
+        post("/requests", 2, "{\"description\":\"Нужна дрель\"}");
+        post("/items", 1, "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true,\"requestId\":1}");
+        post("/bookings", 2, "{\"itemId\":1,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\"}");
+    }
+
+    @DisplayName("Ответ содержит Server-Timing, счётчики запроса попадают в метрики")
+    @Test
+    void requestStatsAreReported() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/items").header("X-Sharer-User-Id", 1))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(SERVER_TIMING,
+                        Matchers.matchesPattern("db;dur=\\d+\\.\\d{3};desc=\"statements=2 entities=\\d+\"")));
+
+        Assertions.assertEquals(2, meterRegistry.get("shareit.request.statements")
+                .tags("method", "GET", "uri", "/items").summary().totalAmount());
+        Assertions.assertEquals(1, meterRegistry.get("shareit.request.jdbc")
+                .tags("method", "GET", "uri", "/items").timer().count());
+    }
+
+    @DisplayName("Запросы параллельных выборок учитываются в запросе, который их запустил")
+    @Test
+    void parallelReadsAreCounted() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/items/1").header("X-Sharer-User-Id", 1))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(SERVER_TIMING,
+                        Matchers.containsString("statements=2 ")));
+    }
+
+    @DisplayName("Запросы через JDBC учитываются наравне с запросами Hibernate")
+    @Test
+    void jdbcReadsAreCounted() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/users").header("X-Sharer-User-Id", 1))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(SERVER_TIMING,
+                        Matchers.containsString("statements=1 entities=0")));
+    }
+
+    @DisplayName("Чтение по всем ресурсам укладывается в объявленные бюджеты")
+    @Test
+    void readEndpointsStayWithinBudget() throws Exception {
+        for (String[] request : List.of(new String[]{"/items", "1"}, new String[]{"/items/1", "1"},
+                new String[]{"/items/1", "2"}, new String[]{"/bookings/1", "2"}, new String[]{"/bookings", "2"},
+                new String[]{"/bookings/owner", "1"}, new String[]{"/requests", "2"},
+                new String[]{"/requests/all", "1"}, new String[]{"/requests/1", "1"}, new String[]{"/users/1", "1"},
+                new String[]{"/users", "1"})) {
+            mvc.perform(MockMvcRequestBuilders.get(request[0]).header("X-Sharer-User-Id", request[1]))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+    }
+
+    @DisplayName("Превышение бюджета завершает запрос ошибкой")
+    @Test
+    void budgetExceededFails() {
+        QueryBudgetExceededException exception = Assertions.assertThrows(QueryBudgetExceededException.class,
+                () -> mvc.perform(MockMvcRequestBuilders.get("/test/budget")));
+
+        Assertions.assertEquals("GET /test/budget выполнил 1 SQL-запросов при бюджете 0", exception.getMessage());
+    }
+
+    private void post(String url, long userId, String body) throws Exception {
+        mvc.perform(MockMvcRequestBuilders.post(url)
+                        .header("X-Sharer-User-Id", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @TestConfiguration
+    static class BudgetTestConfig {
+
+        @Bean
+        BudgetTestController budgetTestController(UserRepository userRepository) {
+            return new BudgetTestController(userRepository);
+        }
+    }
+
+    @RestController
+    static class BudgetTestController {
+
+        private final UserRepository userRepository;
+
+        BudgetTestController(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @GetMapping("/test/budget")
+        @QueryBudget(0)
+        List<User> users() {
+            return userRepository.findAll();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.util.NestedServletException;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
@@ -27,6 +28,7 @@ import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.item.ItemController.CUSTOM_USER_ID_HEADER;
@@ -81,7 +83,8 @@ class ItemRequestControllerTest {
     @DisplayName("Проверка получения запросов на предметы владельцем")
     @Test
     void getItemsRequest() throws Exception {
-        Mockito.when(itemRequestService.getItemRequests(Mockito.any())).thenReturn(List.of(requestDtoWithItems));
+        Mockito.when(itemRequestService.getItemRequests(Mockito.any(), Mockito.any(), Mockito.anyLong()))
+                .thenReturn(List.of(requestDtoWithItems));
         mvc.perform(get("/requests")
                         .header(CUSTOM_USER_ID_HEADER, 1)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -90,6 +93,34 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.[0].description", is(requestDtoWithItems.getDescription()), String.class));
     }
 
+    @DisplayName("Полная страница запросов владельца возвращается с курсором на следующую")
+    @Test
+    void getItemsRequestNextCursorTest() throws Exception {
+        requestDtoWithItems.setId(7L);
+        requestDtoWithItems.setCreated(LocalDateTime.of(2030, 1, 1, 10, 0));
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2029, 1, 1, 10, 0), 3L);
+        Mockito.when(itemRequestService.getItemRequests(1L, cursor, 1L)).thenReturn(List.of(requestDtoWithItems));
+
+        mvc.perform(get("/requests?size=1&cursor=" + cursor.encode())
+                        .header(CUSTOM_USER_ID_HEADER, 1)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER,
+                        new KeysetCursor(requestDtoWithItems.getCreated(), 7L).encode()));
+    }
+
+    @DisplayName("Страница меньше запрошенной возвращается без курсора")
+    @Test
+    void getItemsRequestLastPageTest() throws Exception {
+        Mockito.when(itemRequestService.getItemRequests(1L, null, 10L)).thenReturn(List.of(requestDtoWithItems));
+
+        mvc.perform(get("/requests")
+                        .header(CUSTOM_USER_ID_HEADER, 1)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
     @DisplayName("Проверка получения запроса на предметы не владельцем")
     @Test
     void getItemsRequestInPagesTest() throws Exception {
@@ -9,12 +9,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.configuration.ReadPaths;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestData;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.request.repository.RequestJdbcReader;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -22,6 +27,7 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @ExtendWith(MockitoExtension.class)
 class ItemRequestServiceImplUnitTest {
@@ -34,6 +40,10 @@ class ItemRequestServiceImplUnitTest {
     private UserRepository userRepository;
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private RequestJdbcReader requestJdbcReader;
+    @Mock
+    private ReadPaths readPaths;
     private User user;
     private ItemRequestData itemRequestData;
 
@@ -70,23 +80,27 @@ class ItemRequestServiceImplUnitTest {
     @DisplayName("Проверка получения запросов предметов не владельцем")
     @Test
     void getItemRequestsTest() {
-        ItemRequest itemRequest = new ItemRequest();
-        itemRequest.setRequester(user);
+        ItemRequestDtoWithItems itemRequest = new ItemRequestDtoWithItems();
         itemRequest.setDescription("тестовое описание запрашиваемого предмета");
         itemRequest.setId(1L);
         itemRequest.setCreated(LocalDateTime.now());
-
-        ItemForRequestDto item = new ItemForRequestDto(1L, "предмет дя запроса",
-                "тестовое описание", true, 1L);
-        Mockito.when(userRepository.existsById(Mockito.anyLong())).thenReturn(true);
-        Mockito.when(requestRepository.countAllByRequesterId(Mockito.anyLong())).thenReturn(1L);
-        Mockito.when(requestRepository.findAllByRequesterIdOrderByCreatedAsc(Mockito.anyLong(), Mockito.any()))
-                .thenReturn(List.of(itemRequest));
-        Mockito.when(itemRepository.findAllByRequests(Mockito.any())).thenReturn(List.of(item));
+        itemRequest.setItems(List.of(new ItemForRequestDto(1L, "предмет дя запроса",
+                "тестовое описание", true, 1L)));
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(requestJdbcReader.findRequesterRequests(1L, null, 10)).thenReturn(List.of(itemRequest));
 
         Assertions.assertEquals("тестовое описание запрашиваемого предмета",
-                itemRequestService.getItemRequests(1L).get(0).getDescription());
+                itemRequestService.getItemRequests(1L, null, 10L).get(0).getDescription());
+    }
+
+    @DisplayName("Размер страницы запросов владельца ограничен сверху")
+    @Test
+    void getItemRequestsPageSizeIsCappedTest() {
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+
+        itemRequestService.getItemRequests(1L, null, 100_000L);
 
+        Mockito.verify(requestJdbcReader).findRequesterRequests(1L, null, ItemRequestServiceImpl.MAX_PAGE_SIZE);
     }
 
     @DisplayName("Проверка получения запросов предметов владельцем запросов")
@@ -100,7 +114,7 @@ class ItemRequestServiceImplUnitTest {
 
         ItemForRequestDto item = new ItemForRequestDto(1L, "предмет дя запроса",
                 "тестовое описание", true, 1L);
-        Mockito.when(userRepository.existsById(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
         Mockito.when(requestRepository.findAllByRequesterIdNot(Mockito.anyLong(), Mockito.any()))
                 .thenReturn(List.of(itemRequest));
         Mockito.when(itemRepository.findAllByRequests(Mockito.any())).thenReturn(List.of(item));
@@ -109,22 +123,60 @@ class ItemRequestServiceImplUnitTest {
                 itemRequestService.getItemRequestsInPages(1L, 0L, 4L).get(0).getDescription());
     }
 
+    @DisplayName("Страница запросов упорядочена по дате создания, затем по id")
+    @Test
+    void getItemRequestsInPagesSortedByCreatedAndIdTest() {
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(requestRepository.findAllByRequesterIdNot(Mockito.anyLong(), Mockito.any()))
+                .thenReturn(List.of());
+
+        itemRequestService.getItemRequestsInPages(1L, 4L, 2L);
+
+        Mockito.verify(requestRepository).findAllByRequesterIdNot(1L,
+                PageRequest.of(2, 2, Sort.by("created", "id").ascending()));
+    }
+
+    @DisplayName("Все вещи запроса попадают в него, порядок запросов сохраняется")
+    @Test
+    void getItemRequestsGroupsItemsTest() {
+        LocalDateTime created = LocalDateTime.now();
+        ItemRequest older = request(2L, "старый запрос", created.minusDays(1));
+        ItemRequest newer = request(1L, "новый запрос", created);
+        ItemForRequestDto first = new ItemForRequestDto(1L, "первая", "описание", true, 1L);
+        ItemForRequestDto second = new ItemForRequestDto(2L, "вторая", "описание", true, 2L);
+        ItemForRequestDto third = new ItemForRequestDto(3L, "третья", "описание", true, 1L);
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(requestRepository.findAllByRequesterIdNot(Mockito.anyLong(), Mockito.any()))
+                .thenReturn(List.of(older, newer, request(3L, "без вещей", created.plusDays(1))));
+        Mockito.when(itemRepository.findAllByRequests(List.of(2L, 1L, 3L)))
+                .thenReturn(List.of(first, second, third));
+
+        List<ItemRequestDtoWithItems> result = itemRequestService.getItemRequestsInPages(2L, 0L, 10L);
+
+        Assertions.assertEquals(List.of(2L, 1L, 3L), result.stream()
+                .map(ItemRequestDtoWithItems::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(second), result.get(0).getItems());
+        Assertions.assertEquals(List.of(first, third), result.get(1).getItems());
+        Assertions.assertEquals(List.of(), result.get(2).getItems());
+    }
+
     @DisplayName("Проверка получения одного запроса предмета несуществующим пользователем")
     @Test
     void getItemRequestWithoutUserTest() {
-        Mockito.when(userRepository.existsById(Mockito.anyLong())).thenReturn(false);
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         Assertions.assertThrows(NotFoundException.class,
                 () -> itemRequestService.getItemRequest(1L, 1L));
-        Mockito.verify(userRepository, Mockito.times(1)).existsById(Mockito.anyLong());
+        Mockito.verify(userRepository, Mockito.times(1)).findById(Mockito.anyLong());
     }
 
     @DisplayName("Проверка получения несуществующего запроса предмета пользователем")
     @Test
     void getItemRequestWithoutRequestTest() {
-        Mockito.when(userRepository.existsById(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
         Assertions.assertThrows(NotFoundException.class,
                 () -> itemRequestService.getItemRequest(1L, 1L));
-        Mockito.verify(userRepository, Mockito.times(1)).existsById(Mockito.anyLong());
+        Mockito.verify(userRepository, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(requestRepository, Mockito.times(1)).existsById(Mockito.anyLong());
     }
 
@@ -137,11 +189,20 @@ class ItemRequestServiceImplUnitTest {
         itemRequest.setId(1L);
         itemRequest.setCreated(LocalDateTime.now());
 
-        Mockito.when(userRepository.existsById(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
         Mockito.when(requestRepository.existsById(Mockito.anyLong())).thenReturn(true);
         Mockito.when(requestRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(itemRequest));
 
         Assertions.assertEquals("тестовое описание запрашиваемого предмета",
                 itemRequestService.getItemRequest(1L, 1L).getDescription());
     }
-}
\ No newline at end of file
+
+    private ItemRequest request(Long id, String description, LocalDateTime created) {
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setId(id);
+        itemRequest.setDescription(description);
+        itemRequest.setRequester(user);
+        itemRequest.setCreated(created);
+        return itemRequest;
+    }
+}
@@ -9,14 +9,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.dto.ItemRequestInputDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestData;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
 import ru.practicum.shareit.request.repository.RequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Transactional
 @SpringBootTest(properties = {
@@ -34,6 +42,8 @@ class ItemRequestServiceIntegrationTest {
 
     private final UserRepository userRepository;
 
+    private final ItemRepository itemRepository;
+
     private User user;
     private User user2;
     private ItemRequestData itemRequestData;
@@ -74,9 +84,43 @@ class ItemRequestServiceIntegrationTest {
     @Test
     void getItemRequestsTest() {
         userRepository.save(user);
-        requestRepository.save(itemRequest);
+        requestRepository.saveAndFlush(itemRequest);
         Assertions.assertEquals("тестовое описание запрашиваемого предмета",
-                itemRequestService.getItemRequests(1L).get(0).getDescription());
+                itemRequestService.getItemRequests(1L, null, 10L).get(0).getDescription());
+    }
+
+    @DisplayName("Запросы владельца листаются курсором, вещи приходят вместе с запросами")
+    @Test
+    void getItemRequestsByCursorTest() {
+        User requester = userRepository.save(user);
+        LocalDateTime created = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<ItemRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ItemRequest request = new ItemRequest();
+            request.setRequester(requester);
+            request.setDescription("Запрос " + i);
+            request.setCreated(created.plusMinutes(i));
+            requests.add(requestRepository.save(request));
+        }
+        for (int i = 0; i < 2; i++) {
+            itemRepository.saveAndFlush(Item.builder()
+                    .owner(requester)
+                    .name("Вещь " + i)
+                    .description("Описание")
+                    .available(true)
+                    .request(requests.get(0))
+                    .build());
+        }
+
+        List<ItemRequestDtoWithItems> firstPage = itemRequestService.getItemRequests(requester.getId(), null, 2L);
+        Assertions.assertEquals(List.of("Запрос 0", "Запрос 1"), descriptions(firstPage));
+        Assertions.assertEquals(2, firstPage.get(0).getItems().size());
+        Assertions.assertEquals(List.of(), firstPage.get(1).getItems());
+
+        ItemRequestDtoWithItems last = firstPage.get(1);
+        List<ItemRequestDtoWithItems> secondPage = itemRequestService.getItemRequests(requester.getId(),
+                new KeysetCursor(last.getCreated(), last.getId()), 2L);
+        Assertions.assertEquals(List.of("Запрос 2"), descriptions(secondPage));
     }
 
     @DisplayName("Проверка получения запросов не владельцем")
@@ -84,7 +128,7 @@ class ItemRequestServiceIntegrationTest {
     void getItemRequestsInPagesTest() {
         userRepository.save(user);
         userRepository.save(user2);
-        requestRepository.save(itemRequest);
+        requestRepository.saveAndFlush(itemRequest);
         Assertions.assertEquals("тестовое описание запрашиваемого предмета",
                 itemRequestService.getItemRequestsInPages(2L,0L,4L).get(0).getDescription());
     }
@@ -97,4 +141,10 @@ class ItemRequestServiceIntegrationTest {
         Assertions.assertEquals("тестовое описание запрашиваемого предмета",
                 itemRequestService.getItemRequest(1L, 1L).getDescription());
     }
-}
\ No newline at end of file
+
+    private static List<String> descriptions(List<ItemRequestDtoWithItems> requests) {
+        return requests.stream()
+                .map(ItemRequestDtoWithItems::getDescription)
+                .collect(Collectors.toList());
+    }
+}
@@ -8,10 +8,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.configuration.ReadPaths;
 import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.user.UserDTO;
+import ru.practicum.shareit.user.UserOutputDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserJdbcReader;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.List;
@@ -23,6 +26,10 @@ class UserServiceImplUnitTest {
     private UserServiceImpl userService;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserJdbcReader userJdbcReader;
+    @Mock
+    private ReadPaths readPaths;
 
     @DisplayName("Проверка получения пользователя")
     @Test
@@ -57,21 +64,25 @@ class UserServiceImplUnitTest {
     @DisplayName("Проверка получения Всех пользователей пользователя")
     @Test
     void getAllUsersTest() {
-        User user = new User();
-        user.setName("testUser");
-        user.setEmail("test@email.ru");
-        User user2 = new User();
-        user2.setName("testUser2");
-        user2.setEmail("test@email.ru2");
+        List<UserOutputDto> users = List.of(new UserOutputDto(1L, "test@email.ru", "testUser"),
+                new UserOutputDto(2L, "test@email.ru2", "testUser2"));
 
-        Mockito.when(userRepository.findAll()).thenAnswer(invocationOnMock -> {
-            user.setId(1L);
-            user2.setId(2L);
-            return List.of(user, user2);
-        });
+        Mockito.when(userRepository.findAllOutputDtos()).thenReturn(users);
+
+        Assertions.assertEquals(users, userService.getAllUsers());
+        Mockito.verify(userRepository, Mockito.times(1)).findAllOutputDtos();
+    }
+
+    @DisplayName("Проверка получения всех пользователей через JDBC")
+    @Test
+    void getAllUsersByJdbcTest() {
+        List<UserOutputDto> users = List.of(new UserOutputDto(1L, "test@email.ru", "testUser"));
+
+        Mockito.when(readPaths.getUsers()).thenReturn(ReadPaths.ReadPath.JDBC);
+        Mockito.when(userJdbcReader.findAll()).thenReturn(users);
 
-        Assertions.assertEquals(List.of(user, user2), userService.getAllUsers());
-        Mockito.verify(userRepository, Mockito.times(1)).findAll();
+        Assertions.assertEquals(users, userService.getAllUsers());
+        Mockito.verifyNoInteractions(userRepository);
     }
 
     @DisplayName("Проверка сохранения пользователя")
@@ -81,12 +92,12 @@ class UserServiceImplUnitTest {
         user.setName("testUser");
         user.setEmail("test@email.ru");
 
-        Mockito.when(userRepository.save(user)).thenAnswer(invocationOnMock -> {
+        Mockito.when(userRepository.saveAndFlush(user)).thenAnswer(invocationOnMock -> {
             user.setId(1L);
             return user;
         });
         Assertions.assertEquals(1, userService.saveUser(user).getId());
-        Mockito.verify(userRepository, Mockito.times(1)).save(user);
+        Mockito.verify(userRepository, Mockito.times(1)).saveAndFlush(user);
     }
 
     @DisplayName("Проверка обновления несуществующего пользователя")
@@ -134,7 +145,7 @@ class UserServiceImplUnitTest {
         Mockito.when(userRepository.existsByEmailAndIdNot(Mockito.anyString(), Mockito.anyLong()))
                 .thenAnswer(invocationOnMock -> false);
 
-        User userResult = userService.updateUser(userId, user);
+        UserOutputDto userResult = userService.updateUser(userId, user);
 
         Assertions.assertEquals(user.getEmail(), userResult.getEmail());
         Assertions.assertEquals(user.getName(), userResult.getName());
@@ -153,7 +164,7 @@ class UserServiceImplUnitTest {
 
         Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(userFromDb));
 
-        User userResult = userService.updateUser(userId, user);
+        UserOutputDto userResult = userService.updateUser(userId, user);
 
         Assertions.assertEquals(user.getName(), userResult.getName());
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
@@ -171,7 +182,7 @@ class UserServiceImplUnitTest {
 
         Mockito.when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(userFromDb));
 
-        User userResult = userService.updateUser(userId, user);
+        UserOutputDto userResult = userService.updateUser(userId, user);
 
         Assertions.assertEquals(user.getEmail(), userResult.getEmail());
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
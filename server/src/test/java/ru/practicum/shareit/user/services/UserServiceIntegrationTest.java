@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.UserDTO;
+import ru.practicum.shareit.user.UserOutputDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -55,15 +56,17 @@ class UserServiceIntegrationTest {
         Assertions.assertNull(user.getId());
         userRepository.save(user);
         Assertions.assertEquals(1, userService.getUser(1).getId());
-        Assertions.assertEquals(user, userService.getUser(1));
+        Assertions.assertEquals(new UserOutputDto(user.getId(), user.getEmail(), user.getName()),
+                userService.getUser(1));
     }
 
     @DisplayName("Проверка получения Всех пользователей")
     @Test
     void getAllUsersTest() {
         userRepository.save(user);
-        userRepository.save(user2);
-        Assertions.assertEquals(List.of(user, user2), userService.getAllUsers());
+        userRepository.saveAndFlush(user2);
+        Assertions.assertEquals(List.of(new UserOutputDto(user.getId(), user.getEmail(), user.getName()),
+                new UserOutputDto(user2.getId(), user2.getEmail(), user2.getName())), userService.getAllUsers());
     }
 
     @DisplayName("Проверка обновления имени и email пользователя")
@@ -72,7 +75,7 @@ class UserServiceIntegrationTest {
         long userId = 1L;
         UserDTO userDTO = new UserDTO("test@email.ru{Updated}", "testUser{Updated}");
         User save = userRepository.save(user);
-        User userResult = userService.updateUser(userId, userDTO);
+        UserOutputDto userResult = userService.updateUser(userId, userDTO);
         Assertions.assertEquals(userDTO.getEmail(), userResult.getEmail());
         Assertions.assertEquals(userDTO.getName(), userResult.getName());
     }
@@ -3,10 +3,23 @@ DROP TABLE IF EXISTS bookings;
 DROP TABLE IF EXISTS items;
 DROP TABLE IF EXISTS requests;
 DROP TABLE IF EXISTS users;
+DROP SEQUENCE IF EXISTS comments_seq;
+DROP SEQUENCE IF EXISTS bookings_seq;
+DROP SEQUENCE IF EXISTS items_seq;
+DROP SEQUENCE IF EXISTS requests_seq;
+DROP SEQUENCE IF EXISTS users_seq;
+
+-- Шаг последовательностей совпадает с allocationSize сущностей: Hibernate резервирует блок id
+-- одним запросом и пакетирует вставки. Вставки через SQL без id тоже берут значение из последовательности.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
 
 
 CREATE TABLE IF NOT EXISTS users (
-  id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+  id BIGINT DEFAULT nextval('users_seq') NOT NULL,
   name VARCHAR(255) NOT NULL,
   email VARCHAR(512) NOT NULL,
   CONSTRAINT pk_user PRIMARY KEY (id),
@@ -14,7 +27,7 @@ CREATE TABLE IF NOT EXISTS users (
 );
 
 CREATE TABLE IF NOT EXISTS requests(
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('requests_seq') NOT NULL,
 description varchar(500) NOT NULL,
 requestor_id BIGINT NOT NULL,
 created TIMESTAMP NOT NULL,
@@ -22,8 +35,10 @@ CONSTRAINT pk_request PRIMARY KEY(id),
 FOREIGN KEY (requestor_id) REFERENCES users(id)
 );
 
+CREATE INDEX IF NOT EXISTS ix_requests_requestor_created ON requests (requestor_id, created, id);
+
 CREATE TABLE IF NOT EXISTS items (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('items_seq') NOT NULL,
 name VARCHAR(300) NOT NULL,
 description VARCHAR(500) NOT NULL,
 is_available BOOLEAN NOT NULL,
@@ -34,8 +49,10 @@ FOREIGN KEY (owner_id) REFERENCES users(id),
 FOREIGN KEY (request_id) REFERENCES requests(id)
 );
 
+CREATE INDEX IF NOT EXISTS ix_items_request ON items (request_id);
+
 CREATE TABLE IF NOT EXISTS bookings(
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('bookings_seq') NOT NULL,
 start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 item_id BIGINT NOT NULL,
@@ -46,8 +63,10 @@ FOREIGN KEY (item_id) REFERENCES items(id),
 FOREIGN KEY (booker_id) REFERENCES users(id)
 );
 
+CREATE INDEX IF NOT EXISTS ix_bookings_item_end ON bookings (item_id, end_date);
+
 CREATE TABLE IF NOT EXISTS comments(
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT DEFAULT nextval('comments_seq') NOT NULL,
 text varchar(300) NOT NULL,
 item_id BIGINT NOT NULL,
 author_id BIGINT NOT NULL,